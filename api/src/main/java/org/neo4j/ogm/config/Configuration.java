@@ -45,6 +45,14 @@ public class Configuration {
 	private Credentials credentials;
     private Integer connectionLivenessCheckTimeout;
     private Boolean verifyConnection;
+    private Integer mappingContextCapacity;
+    private Integer maxRowsPerStatement;
+    private Boolean httpResponseStreaming;
+    private QueryLoggingLevel queryLoggingLevel;
+    private Integer queryLoggingMaxLength;
+    private Boolean queryLoggingParameters;
+    private String[] queryLoggingRedactedParameters;
+    private Double queryLoggingSampleRate;
 
 
 	/**
@@ -61,6 +69,17 @@ public class Configuration {
 		this.trustCertFile = builder.trustCertFile;
 		this.connectionLivenessCheckTimeout = builder.connectionLivenessCheckTimeout;
         this.verifyConnection = builder.verifyConnection != null ? builder.verifyConnection : false;
+        this.mappingContextCapacity = builder.mappingContextCapacity != null ? builder.mappingContextCapacity : 0;
+        this.maxRowsPerStatement = builder.maxRowsPerStatement != null ? builder.maxRowsPerStatement : 0;
+        this.httpResponseStreaming = builder.httpResponseStreaming != null ? builder.httpResponseStreaming : false;
+        this.queryLoggingLevel = builder.queryLoggingLevel != null ? QueryLoggingLevel.fromString(builder.queryLoggingLevel) : QueryLoggingLevel.INFO;
+        if (this.queryLoggingLevel == null) {
+            throw new IllegalArgumentException("Unknown query logging level: " + builder.queryLoggingLevel);
+        }
+        this.queryLoggingMaxLength = builder.queryLoggingMaxLength != null ? builder.queryLoggingMaxLength : 0;
+        this.queryLoggingParameters = builder.queryLoggingParameters != null ? builder.queryLoggingParameters : true;
+        this.queryLoggingRedactedParameters = builder.queryLoggingRedactedParameters != null ? builder.queryLoggingRedactedParameters : new String[0];
+        this.queryLoggingSampleRate = builder.queryLoggingSampleRate != null ? builder.queryLoggingSampleRate : 1.0;
         this.autoIndex = builder.autoIndex != null ? AutoIndexMode.fromString(builder.autoIndex) : AutoIndexMode.NONE;
 		this.generatedIndexesOutputDir = builder.generatedIndexesOutputDir != null ? builder.generatedIndexesOutputDir : ".";
 		this.generatedIndexesOutputFilename = builder.generatedIndexesOutputFilename != null ? builder.generatedIndexesOutputFilename : "generated_indexes.cql";
@@ -143,6 +162,63 @@ public class Configuration {
         return verifyConnection;
     }
 
+    /**
+     * @return maximum number of node entities, and of relationship entities, each session keeps track of,
+     * 0 if unbounded
+     */
+    public Integer getMappingContextCapacity() {
+        return mappingContextCapacity;
+    }
+
+    /**
+     * @return maximum number of rows of each statement sent to save entities, 0 if unbounded
+     */
+    public Integer getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * @return true if the HTTP driver parses responses while reading them from the connection
+     */
+    public Boolean getHttpResponseStreaming() {
+        return httpResponseStreaming;
+    }
+
+    /**
+     * @return level at which the drivers log the statements they send, see {@link org.neo4j.ogm.driver.QueryLogger}
+     */
+    public QueryLoggingLevel getQueryLoggingLevel() {
+        return queryLoggingLevel;
+    }
+
+    /**
+     * @return maximum number of characters of a logged statement and of its parameters, 0 if unbounded
+     */
+    public Integer getQueryLoggingMaxLength() {
+        return queryLoggingMaxLength;
+    }
+
+    /**
+     * @return true if the parameters of a statement are logged along with it
+     */
+    public Boolean getQueryLoggingParameters() {
+        return queryLoggingParameters;
+    }
+
+    /**
+     * @return names of the parameters, and of the properties within them, whose values are not logged
+     */
+    public String[] getQueryLoggingRedactedParameters() {
+        return queryLoggingRedactedParameters;
+    }
+
+    /**
+     * @return fraction, between 0 and 1, of the requests whose statements are logged
+     */
+    public Double getQueryLoggingSampleRate() {
+        return queryLoggingSampleRate;
+    }
+
     public String getNeo4jHaPropertiesFile() {
         return neo4jHaPropertiesFile;
 	}
@@ -228,6 +304,14 @@ public class Configuration {
 					.trustCertFile(builder.trustCertFile)
 					.connectionLivenessCheckTimeout(builder.connectionLivenessCheckTimeout)
                     .verifyConnection(builder.verifyConnection)
+                    .mappingContextCapacity(builder.mappingContextCapacity)
+                    .maxRowsPerStatement(builder.maxRowsPerStatement)
+                    .httpResponseStreaming(builder.httpResponseStreaming)
+                    .queryLoggingLevel(builder.queryLoggingLevel)
+                    .queryLoggingMaxLength(builder.queryLoggingMaxLength)
+                    .queryLoggingParameters(builder.queryLoggingParameters)
+                    .queryLoggingRedactedParameters(builder.queryLoggingRedactedParameters)
+                    .queryLoggingSampleRate(builder.queryLoggingSampleRate)
                     .autoIndex(builder.autoIndex)
 					.generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
 					.generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
@@ -245,6 +329,14 @@ public class Configuration {
 		private static final String TRUST_CERT_FILE = "trust.certificate.file";
 		private static final String CONNECTION_LIVENESS_CHECK_TIMEOUT = "connection.liveness.check.timeout";
         private static final String VERIFY_CONNECTION = "verify.connection";
+        private static final String MAPPING_CONTEXT_CAPACITY = "mapping.context.capacity";
+        private static final String MAX_ROWS_PER_STATEMENT = "max.rows.per.statement";
+        private static final String HTTP_RESPONSE_STREAMING = "http.response.streaming";
+        private static final String QUERY_LOGGING_LEVEL = "query.logging.level";
+        private static final String QUERY_LOGGING_MAX_LENGTH = "query.logging.max.length";
+        private static final String QUERY_LOGGING_PARAMETERS = "query.logging.parameters";
+        private static final String QUERY_LOGGING_REDACTED_PARAMETERS = "query.logging.redacted.parameters";
+        private static final String QUERY_LOGGING_SAMPLE_RATE = "query.logging.sample.rate";
         private static final String AUTO_INDEX = "indexes.auto";
 		private static final String GENERATED_INDEXES_OUTPUT_DIR = "indexes.auto.dump.dir";
 		private static final String GENERATED_INDEXES_OUTPUT_FILENAME = "indexes.auto.dump.filename";
@@ -258,6 +350,14 @@ public class Configuration {
 		private String trustCertFile;
         private Integer connectionLivenessCheckTimeout;
         private Boolean verifyConnection;
+        private Integer mappingContextCapacity;
+        private Integer maxRowsPerStatement;
+        private Boolean httpResponseStreaming;
+        private String queryLoggingLevel;
+        private Integer queryLoggingMaxLength;
+        private Boolean queryLoggingParameters;
+        private String[] queryLoggingRedactedParameters;
+        private Double queryLoggingSampleRate;
         private String autoIndex;
 		private String generatedIndexesOutputDir;
 		private String generatedIndexesOutputFilename;
@@ -311,6 +411,30 @@ public class Configuration {
                     case VERIFY_CONNECTION:
                         this.verifyConnection = Boolean.valueOf((String) entry.getValue());
                         break;
+                    case MAPPING_CONTEXT_CAPACITY:
+                        this.mappingContextCapacity = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case MAX_ROWS_PER_STATEMENT:
+                        this.maxRowsPerStatement = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RESPONSE_STREAMING:
+                        this.httpResponseStreaming = Boolean.valueOf((String) entry.getValue());
+                        break;
+                    case QUERY_LOGGING_LEVEL:
+                        this.queryLoggingLevel = (String) entry.getValue();
+                        break;
+                    case QUERY_LOGGING_MAX_LENGTH:
+                        this.queryLoggingMaxLength = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case QUERY_LOGGING_PARAMETERS:
+                        this.queryLoggingParameters = Boolean.valueOf((String) entry.getValue());
+                        break;
+                    case QUERY_LOGGING_REDACTED_PARAMETERS:
+                        this.queryLoggingRedactedParameters = ((String) entry.getValue()).trim().split("\\s*,\\s*");
+                        break;
+                    case QUERY_LOGGING_SAMPLE_RATE:
+                        this.queryLoggingSampleRate = Double.valueOf((String) entry.getValue());
+                        break;
                     case AUTO_INDEX:
 						this.autoIndex = (String) entry.getValue();
 						break;
@@ -411,6 +535,106 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Maximum number of node entities, and of relationship entities, a session keeps track of.
+         * <p>
+         * When the limit is exceeded after a load or save, the least recently used entities are detached from the
+         * session, as with {@code Session.detachNodeEntity}. Useful for long running sessions that stream many
+         * entities, e.g. batch jobs.
+         *
+         * @param mappingContextCapacity the capacity, default is 0 which means unbounded
+         */
+        public Builder mappingContextCapacity(Integer mappingContextCapacity) {
+            this.mappingContextCapacity = mappingContextCapacity;
+            return this;
+        }
+
+        /**
+         * Maximum number of rows of each statement sent to save entities.
+         * <p>
+         * Nodes with the same labels, and relationships of the same type, are created or updated with one statement
+         * whose rows hold all of them. Saving many entities at once then sends very large statements, which need a lot
+         * of memory on both the client and the server. With a limit, such groups are split over several statements,
+         * sent in the same request.
+         *
+         * @param maxRowsPerStatement the maximum number of rows, default is 0 which means unbounded
+         */
+        public Builder maxRowsPerStatement(Integer maxRowsPerStatement) {
+            this.maxRowsPerStatement = maxRowsPerStatement;
+            return this;
+        }
+
+        /**
+         * Makes the HTTP driver parse graph and row responses while reading them from the connection, instead of
+         * reading each response into memory first. Large results then need memory for one record at a time.
+         * <p>
+         * Errors of a statement are reported once its records have been read or the response is closed, and each
+         * open response holds a connection of the pool until then.
+         *
+         * @param httpResponseStreaming if responses are streamed, default is false
+         */
+        public Builder httpResponseStreaming(Boolean httpResponseStreaming) {
+            this.httpResponseStreaming = httpResponseStreaming;
+            return this;
+        }
+
+        /**
+         * Level at which the drivers log the statements they send, for possible values see
+         * {@link org.neo4j.ogm.config.QueryLoggingLevel}.
+         * <p>
+         * Statements are logged by the loggers of the driver request classes, such as
+         * {@code org.neo4j.ogm.drivers.bolt.request.BoltRequest}, and are only rendered when that logger is enabled
+         * for this level.
+         *
+         * @param queryLoggingLevel the level, default is info, an unknown level fails the build of the configuration
+         */
+        public Builder queryLoggingLevel(String queryLoggingLevel) {
+            this.queryLoggingLevel = queryLoggingLevel;
+            return this;
+        }
+
+        /**
+         * Maximum number of characters logged for a statement, and for its parameters. Longer values are truncated
+         * while they are rendered, so large batches are never rendered in full.
+         *
+         * @param queryLoggingMaxLength the maximum length, default is 0 which means unbounded
+         */
+        public Builder queryLoggingMaxLength(Integer queryLoggingMaxLength) {
+            this.queryLoggingMaxLength = queryLoggingMaxLength;
+            return this;
+        }
+
+        /**
+         * Whether the parameters of a statement are logged along with it.
+         *
+         * @param queryLoggingParameters if parameters are logged, default is true
+         */
+        public Builder queryLoggingParameters(Boolean queryLoggingParameters) {
+            this.queryLoggingParameters = queryLoggingParameters;
+            return this;
+        }
+
+        /**
+         * Names of parameters whose values are replaced by a placeholder when logged. The names also apply to the
+         * keys of maps nested in parameters, e.g. the properties of the rows of a batch.
+         *
+         * @param queryLoggingRedactedParameters the names, none by default
+         */
+        public Builder queryLoggingRedactedParameters(String... queryLoggingRedactedParameters) {
+            this.queryLoggingRedactedParameters = queryLoggingRedactedParameters;
+            return this;
+        }
+
+        /**
+         * Fraction of the requests whose statements are logged, e.g. 0.01 to log about one request in a hundred.
+         *
+         * @param queryLoggingSampleRate the fraction, between 0 and 1, default is 1
+         */
+        public Builder queryLoggingSampleRate(Double queryLoggingSampleRate) {
+            this.queryLoggingSampleRate = queryLoggingSampleRate;
+            return this;
+        }
+
 		/**
 		 * Auto index config, for possible values see {@link org.neo4j.ogm.config.AutoIndexMode}
 		 *
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.config;
+
+/**
+ * Denotes the level at which the drivers log the statements they send to the database.
+ */
+public enum QueryLoggingLevel {
+    /**
+     * Statements are not logged.
+     */
+    OFF("off"),
+
+    /**
+     * Statements are logged at debug level.
+     */
+    DEBUG("debug"),
+
+    /**
+     * Statements are logged at info level.
+     */
+    INFO("info");
+
+    /**
+     * Parses an option name into the Enumeration type it represents.
+     *
+     * @param name The lowercase name to parse.
+     * @return The <code>QueryLoggingLevel</code> this name represents.
+     */
+    public static QueryLoggingLevel fromString(String name) {
+        if (name != null) {
+            for (QueryLoggingLevel level : QueryLoggingLevel.values()) {
+                if (name.equalsIgnoreCase(level.name)) {
+                    return level;
+                }
+            }
+        }
+        return null;
+    }
+
+    private final String name;
+
+    QueryLoggingLevel(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -37,10 +37,13 @@ public abstract class AbstractConfigurableDriver implements Driver {
 
 	protected Configuration configuration;
 	protected TransactionManager transactionManager;
+	protected ParameterConversion parameterConversion = DirectParameterConversion.INSTANCE;
+	protected QueryLogger queryLogger = QueryLogger.DEFAULT;
 
 	@Override
 	public void configure(Configuration config) {
 		this.configuration = config;
+		this.queryLogger = new QueryLogger(config);
 	}
 
 	@Override
@@ -53,4 +56,18 @@ public abstract class AbstractConfigurableDriver implements Driver {
 	public Configuration getConfiguration() {
 		return configuration;
 	}
+
+	/**
+	 * Sets the conversion applied to the parameters of every statement sent by this driver.
+	 *
+	 * @param parameterConversion the conversion, {@link DirectParameterConversion} by default
+	 */
+	public void setParameterConversion(ParameterConversion parameterConversion) {
+		assert (parameterConversion != null);
+		this.parameterConversion = parameterConversion;
+	}
+
+	public ParameterConversion getParameterConversion() {
+		return parameterConversion;
+	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * Converts parameters by serializing them with Jackson and reading the result back as maps, lists and simple values.
+ * Every parameter is copied, however large.
+ */
+public class DefaultParameterConversion implements ParameterConversion {
+
+    public static final DefaultParameterConversion INSTANCE = new DefaultParameterConversion();
+
+    private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
+    };
+
+    private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+    @Override
+    public Map<String, Object> convertParameters(Map<String, Object> originalParameter) {
+        return mapper.convertValue(originalParameter, MAP_TYPE_REF);
+    }
+
+    /**
+     * @param value any value
+     * @return the value as a map, list or simple value, the way it is converted as part of the parameters
+     */
+    Object convertValue(Object value) {
+        return mapper.convertValue(value, Object.class);
+    }
+}
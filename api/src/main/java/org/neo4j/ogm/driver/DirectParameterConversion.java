@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Converts parameters in a single walk over them, producing the same values as {@link DefaultParameterConversion} without
+ * serializing them.
+ * <p>
+ * Strings, longs, doubles, booleans, byte arrays and <code>null</code> are passed on as they are. Other integral numbers
+ * become longs and other decimal numbers doubles, characters, enums and UUIDs become strings, dates become their
+ * timestamp in milliseconds, arrays and iterables become lists and map keys become strings. Maps and lists are only
+ * copied when one of their values is converted, so large row parameters made of simple values are not copied at all.
+ * Values of any other type are converted by {@link DefaultParameterConversion}.
+ */
+public class DirectParameterConversion implements ParameterConversion {
+
+    public static final DirectParameterConversion INSTANCE = new DirectParameterConversion();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> convertParameters(Map<String, Object> originalParameter) {
+        return (Map<String, Object>) convertMap(originalParameter);
+    }
+
+    private Object convert(Object value) {
+        if (value == null || value instanceof String || value instanceof Long || value instanceof Double
+            || value instanceof Boolean || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return convertMap((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            return convertList((List<?>) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float || value instanceof BigDecimal) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Character || value instanceof UUID) {
+            return value.toString();
+        }
+        if (value instanceof char[]) {
+            return new String((char[]) value);
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(convert(Array.get(value, i)));
+            }
+            return list;
+        }
+        if (value instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                list.add(convert(element));
+            }
+            return list;
+        }
+        return DefaultParameterConversion.INSTANCE.convertValue(value);
+    }
+
+    private Map<?, ?> convertMap(Map<?, ?> map) {
+        Map<Object, Object> copy = null;
+        int index = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            Object convertedKey = key instanceof String ? key : String.valueOf(key);
+            Object convertedValue = convert(value);
+            if (copy == null && (convertedKey != key || convertedValue != value)) {
+                copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+                Iterator<? extends Map.Entry<?, ?>> previous = map.entrySet().iterator();
+                for (int i = 0; i < index; i++) {
+                    Map.Entry<?, ?> previousEntry = previous.next();
+                    copy.put(previousEntry.getKey(), previousEntry.getValue());
+                }
+            }
+            if (copy != null) {
+                copy.put(convertedKey, convertedValue);
+            }
+            index++;
+        }
+        return copy == null ? map : copy;
+    }
+
+    private List<?> convertList(List<?> list) {
+        List<Object> copy = null;
+        int index = 0;
+        for (Object value : list) {
+            Object convertedValue = convert(value);
+            if (copy == null && convertedValue != value) {
+                copy = new ArrayList<>(list.size());
+                copy.addAll(list.subList(0, index));
+            }
+            if (copy != null) {
+                copy.add(convertedValue);
+            }
+            index++;
+        }
+        return copy == null ? list : copy;
+    }
+}
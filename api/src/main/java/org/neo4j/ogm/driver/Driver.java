@@ -37,10 +37,41 @@ public interface Driver extends AutoCloseable {
      */
     Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks);
 
+    /**
+     * Begins new transaction, managed by the given transaction manager instead of the one set on this driver.
+     * <p>
+     * A driver is shared by all sessions of a SessionFactory, each of them having its own transaction manager, so
+     * drivers should override this method. The default implementation sets the transaction manager on the driver
+     * first, which is only correct as long as the driver is not used by several sessions at the same time.
+     *
+     * @param type type of the transaction, see {@link org.neo4j.ogm.transaction.Transaction.Type}
+     * @param bookmarks bookmarks to pass to the driver when transaction is started
+     * @param transactionManager transaction manager of the session beginning the transaction
+     *
+     * @return new transaction
+     */
+    default Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks, TransactionManager transactionManager) {
+        setTransactionManager(transactionManager);
+        return newTransaction(type, bookmarks);
+    }
+
     void close();
 
     Request request();
 
+    /**
+     * Returns a request running in the current transaction of the given transaction manager, or in a transaction of
+     * its own if there is none. See {@link #newTransaction(Transaction.Type, Iterable, TransactionManager)} about the
+     * default implementation.
+     *
+     * @param transactionManager transaction manager of the session making the request
+     * @return new request
+     */
+    default Request request(TransactionManager transactionManager) {
+        setTransactionManager(transactionManager);
+        return request();
+    }
+
     void setTransactionManager(TransactionManager tx);
 
     Configuration getConfiguration();
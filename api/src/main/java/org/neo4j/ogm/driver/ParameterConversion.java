@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.util.Map;
+
+/**
+ * Converts the parameters of a statement into values a driver can send to the database.
+ * <p>
+ * Drivers extending {@link AbstractConfigurableDriver} use {@link DirectParameterConversion} unless another conversion
+ * is set with {@link AbstractConfigurableDriver#setParameterConversion(ParameterConversion)}.
+ */
+public interface ParameterConversion {
+
+    /**
+     * @param originalParameter the parameters of a statement, not modified
+     * @return the parameters to pass to the driver
+     */
+    Map<String, Object> convertParameters(Map<String, Object> originalParameter);
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.QueryLoggingLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the statements drivers send to the database, as configured by the query logging options of
+ * {@link Configuration}.
+ * <p>
+ * Each driver request logs its statements through {@link #withLogger(Logger)} under its own category, e.g.
+ * {@code org.neo4j.ogm.drivers.bolt.request.BoltRequest}, so that existing logging configurations keep enabling or
+ * silencing them.
+ * <p>
+ * A request first asks {@link #isEnabled()} whether its statements are logged, so that nothing is rendered when the
+ * logger is disabled or the request is not sampled. Parameters are rendered into a bounded buffer: rendering stops once
+ * the maximum length is reached, and values of redacted parameters are never rendered.
+ */
+public class QueryLogger {
+
+    /**
+     * Logs every statement with its parameters at info level, as drivers have always done.
+     */
+    public static final QueryLogger DEFAULT = new QueryLogger(QueryLoggingLevel.INFO, 0, true,
+        Collections.<String>emptySet(), 1.0);
+
+    private static final String REDACTED = "*****";
+    private static final String TRUNCATED = "...";
+
+    private final QueryLoggingLevel level;
+    private final int maxLength;
+    private final boolean includeParameters;
+    private final Set<String> redactedParameters;
+    private final double sampleRate;
+    private final Logger logger;
+
+    public QueryLogger(Configuration configuration) {
+        this(configuration.getQueryLoggingLevel(), configuration.getQueryLoggingMaxLength(),
+            configuration.getQueryLoggingParameters(),
+            new HashSet<>(Arrays.asList(configuration.getQueryLoggingRedactedParameters())),
+            configuration.getQueryLoggingSampleRate());
+    }
+
+    QueryLogger(QueryLoggingLevel level, int maxLength, boolean includeParameters, Set<String> redactedParameters,
+        double sampleRate) {
+        this(level, maxLength > 0 ? maxLength : Integer.MAX_VALUE, includeParameters, redactedParameters, sampleRate,
+            LoggerFactory.getLogger(QueryLogger.class));
+    }
+
+    private QueryLogger(QueryLoggingLevel level, int maxLength, boolean includeParameters,
+        Set<String> redactedParameters, double sampleRate, Logger logger) {
+        this.level = level;
+        this.maxLength = maxLength;
+        this.includeParameters = includeParameters;
+        this.redactedParameters = redactedParameters;
+        this.sampleRate = sampleRate;
+        this.logger = logger;
+    }
+
+    /**
+     * @param logger the logger to log statements to
+     * @return a QueryLogger with the same options, logging to the given logger
+     */
+    public QueryLogger withLogger(Logger logger) {
+        return new QueryLogger(level, maxLength, includeParameters, redactedParameters, sampleRate, logger);
+    }
+
+    /**
+     * Decides whether the statements of a request are logged. Drivers call it once per request and log all the
+     * statements of a multi-statement request, or none of them, so a sampled request is logged together.
+     *
+     * @return true if the statements of the current request should be passed to {@link #log(String, Map)}
+     */
+    public boolean isEnabled() {
+        switch (level) {
+            case INFO:
+                if (!logger.isInfoEnabled()) {
+                    return false;
+                }
+                break;
+            case DEBUG:
+                if (!logger.isDebugEnabled()) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Logs a statement, regardless of {@link #isEnabled()}.
+     *
+     * @param statement  the cypher statement
+     * @param parameters its parameters, may be null
+     */
+    public void log(String statement, Map<String, ?> parameters) {
+        String cypher = truncate(statement);
+        if (includeParameters) {
+            String renderedParameters = render(parameters);
+            if (level == QueryLoggingLevel.DEBUG) {
+                logger.debug("Request: {} with params {}", cypher, renderedParameters);
+            } else {
+                logger.info("Request: {} with params {}", cypher, renderedParameters);
+            }
+        } else {
+            if (level == QueryLoggingLevel.DEBUG) {
+                logger.debug("Request: {}", cypher);
+            } else {
+                logger.info("Request: {}", cypher);
+            }
+        }
+    }
+
+    String truncate(String value) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + TRUNCATED;
+    }
+
+    String render(Map<String, ?> parameters) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, parameters);
+        if (builder.length() > maxLength) {
+            builder.setLength(maxLength);
+            builder.append(TRUNCATED);
+        }
+        return builder.toString();
+    }
+
+    private void append(StringBuilder builder, Object value) {
+        if (builder.length() > maxLength) {
+            return;
+        }
+        if (value instanceof Map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (builder.length() > maxLength) {
+                    return;
+                }
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+                builder.append(entry.getKey()).append('=');
+                if (redactedParameters.contains(String.valueOf(entry.getKey()))) {
+                    builder.append(REDACTED);
+                } else {
+                    append(builder, entry.getValue());
+                }
+            }
+            builder.append('}');
+        } else if (value instanceof Iterable) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : (Iterable<?>) value) {
+                if (builder.length() > maxLength) {
+                    return;
+                }
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+                append(builder, element);
+            }
+            builder.append(']');
+        } else if (value != null && value.getClass().isArray()) {
+            builder.append('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                if (builder.length() > maxLength) {
+                    return;
+                }
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                append(builder, Array.get(value, i));
+            }
+            builder.append(']');
+        } else {
+            String rendered = String.valueOf(value);
+            int remaining = maxLength - builder.length();
+            if (rendered.length() > remaining) {
+                builder.append(rendered, 0, remaining).append(TRUNCATED);
+            } else {
+                builder.append(rendered);
+            }
+        }
+    }
+}
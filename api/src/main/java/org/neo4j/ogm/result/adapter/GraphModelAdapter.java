@@ -16,18 +16,57 @@ package org.neo4j.ogm.result.adapter;
 import java.util.*;
 
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
  * This adapter will transform an embedded response into a json response
+ * <p>
+ * Nodes and relationships are built once per adapter and the same models are returned for any later record they
+ * appear in with the same labels and properties, so an adapter should not outlive the response it adapts. A record in
+ * which they changed, for instance because the statement updates them row by row, gets new models. Only the most
+ * recently used models are kept for reuse, so a long response doesn't keep a model for every node and relationship it
+ * has returned.
  *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class GraphModelAdapter extends BaseAdapter implements ResultAdapter<Map<String, Object>, GraphModel> {
 
+    /**
+     * Number of node models, and of relationship models, kept for reuse by default.
+     */
+    public static final int DEFAULT_MODEL_CACHE_SIZE = 10_000;
+
+    // the models most recently built or reused for this response, so that nodes and relationships appearing in many
+    // records, such as hubs reached in a deep load, are only built once
+    private final Map<Long, NodeModel> nodeModels;
+    private final Map<Long, RelationshipModel> relationshipModels;
+
+    public GraphModelAdapter() {
+        this(DEFAULT_MODEL_CACHE_SIZE);
+    }
+
+    /**
+     * @param modelCacheSize the number of node models, and of relationship models, kept for reuse by later records,
+     *                       0 to build new models for every record
+     */
+    public GraphModelAdapter(int modelCacheSize) {
+        this.nodeModels = leastRecentlyUsed(modelCacheSize);
+        this.relationshipModels = leastRecentlyUsed(modelCacheSize);
+    }
+
+    private static <V> Map<Long, V> leastRecentlyUsed(int maxSize) {
+        return new LinkedHashMap<Long, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
     /**
      * Parses a row from the result object and transforms it into a GraphModel
      *
@@ -80,39 +119,62 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
     }
 
     public void buildNode(Object node, GraphModel graphModel, Set<Long> nodeIdentities) {
-        if (!nodeIdentities.contains(nodeId(node))) {
-
-            nodeIdentities.add(nodeId(node));
-
-            NodeModel nodeModel = new NodeModel();
-            nodeModel.setId(nodeId(node));
-            List<String> labelNames = labels(node);
-
-            nodeModel.setLabels(labelNames.toArray(new String[]{}));
-
-            nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
+        Long id = nodeId(node);
+        if (nodeIdentities.add(id)) {
+
+            String[] labels = labels(node).toArray(new String[]{});
+            Map<String, Object> properties = convertArrayPropertiesToIterable(properties(node));
+
+            NodeModel nodeModel = nodeModels.get(id);
+            if (nodeModel == null || !Arrays.equals(nodeModel.getLabels(), labels)
+                || !sameProperties(nodeModel.getPropertyList(), properties)) {
+                nodeModel = new NodeModel();
+                nodeModel.setId(id);
+                nodeModel.setLabels(labels);
+                nodeModel.setProperties(properties);
+                nodeModels.put(id, nodeModel);
+            }
 
             graphModel.getNodes().add(nodeModel);
         }
     }
 
     public void buildRelationship(Object relationship, GraphModel graphModel, Set<Long> edgeIdentities) {
+        Long id = relationshipId(relationship);
+        if (edgeIdentities.add(id)) {
+
+            Map<String, Object> properties = convertArrayPropertiesToIterable(properties(relationship));
+
+            // type and end nodes of a relationship never change, its properties may
+            RelationshipModel edgeModel = relationshipModels.get(id);
+            if (edgeModel == null || !sameProperties(edgeModel.getPropertyList(), properties)) {
+                edgeModel = new RelationshipModel();
+                edgeModel.setId(id);
+                edgeModel.setType(relationshipType(relationship));
+                edgeModel.setStartNode(startNodeId(relationship));
+                edgeModel.setEndNode(endNodeId(relationship));
+
+                edgeModel.setProperties(properties);
+                relationshipModels.put(id, edgeModel);
+            }
 
-        if (!edgeIdentities.contains(relationshipId(relationship))) {
-
-            edgeIdentities.add(relationshipId(relationship));
-
-            RelationshipModel edgeModel = new RelationshipModel();
-            edgeModel.setId(relationshipId(relationship));
-            edgeModel.setType(relationshipType(relationship));
-            edgeModel.setStartNode(startNodeId(relationship));
-            edgeModel.setEndNode(endNodeId(relationship));
-
-            edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
             graphModel.getRelationships().add(edgeModel);
         }
     }
 
+    private static boolean sameProperties(List<Property<String, Object>> propertyList, Map<String, Object> properties) {
+        if (propertyList.size() != properties.size()) {
+            return false;
+        }
+        for (Property<String, Object> property : propertyList) {
+            Object value = properties.get(property.getKey());
+            if (value == null || !value.equals(property.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public abstract boolean isPath(Object value);
 
     public abstract boolean isNode(Object value);
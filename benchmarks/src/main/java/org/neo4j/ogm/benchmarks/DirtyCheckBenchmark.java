@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Dirty checks loaded entities, which hashes each of them through the identity map of the mapping context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyCheckBenchmark {
+
+    @Param({"1000"})
+    private int people;
+
+    private MappingContext mappingContext;
+    private Iterable<Person> loadedPeople;
+
+    @Setup
+    public void setUp() {
+        MetaData metaData = Fixtures.metaData();
+        mappingContext = new MappingContext(metaData);
+        loadedPeople = new GraphEntityMapper(metaData, mappingContext)
+            .map(Person.class, Fixtures.response(Fixtures.graphModels(people, 1)));
+    }
+
+    @Benchmark
+    public int isDirty() {
+        int dirty = 0;
+        for (Person person : loadedPeople) {
+            if (mappingContext.isDirty(person)) {
+                dirty++;
+            }
+        }
+        return dirty;
+    }
+}
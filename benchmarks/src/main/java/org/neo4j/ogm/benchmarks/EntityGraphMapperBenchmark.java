@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compiles entities into Cypher statements the way a save does: {@link EntityGraphMapper#map(Object, int)} for every
+ * entity followed by the statement generation of the {@link org.neo4j.ogm.cypher.compiler.MultiStatementCypherCompiler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityGraphMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int people;
+
+    @Param({"1", "10"})
+    private int moviesPerPerson;
+
+    private MetaData metaData;
+    private List<Person> newPeople;
+    private MappingContext loadedContext;
+    private Iterable<Person> loadedPeople;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        int movies = Math.min(moviesPerPerson, people);
+        newPeople = Fixtures.people(people, movies);
+        loadedContext = new MappingContext(metaData);
+        loadedPeople = new GraphEntityMapper(metaData, loadedContext)
+            .map(Person.class, Fixtures.response(Fixtures.graphModels(people, movies)));
+    }
+
+    @Benchmark
+    public List<Statement> compileNewEntities() {
+        return compile(new EntityGraphMapper(metaData, new MappingContext(metaData)), newPeople);
+    }
+
+    @Benchmark
+    public List<Statement> compileUnchangedEntities() {
+        return compile(new EntityGraphMapper(metaData, loadedContext), loadedPeople);
+    }
+
+    private static List<Statement> compile(EntityGraphMapper mapper, Iterable<Person> people) {
+        for (Person person : people) {
+            mapper.map(person, 1);
+        }
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        return compiler.getAllStatements();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.benchmarks.domain.Movie;
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * Synthetic graphs shared by the benchmarks: people who each acted in a number of movies, every record holding one
+ * person with its movies as returned by a depth 1 load.
+ */
+public final class Fixtures {
+
+    public static final String DOMAIN_PACKAGE = "org.neo4j.ogm.benchmarks.domain";
+
+    private static final long MOVIE_ID_OFFSET = 1_000_000L;
+    private static final long RELATIONSHIP_ID_OFFSET = 10_000_000L;
+
+    private Fixtures() {
+    }
+
+    public static MetaData metaData() {
+        return new MetaData(DOMAIN_PACKAGE);
+    }
+
+    public static List<GraphModel> graphModels(int people, int moviesPerPerson) {
+        List<GraphModel> graphModels = new ArrayList<>(people);
+        for (int p = 0; p < people; p++) {
+            NodeModel[] nodes = new NodeModel[moviesPerPerson + 1];
+            RelationshipModel[] relationships = new RelationshipModel[moviesPerPerson];
+
+            nodes[0] = node(p, "Person", personProperties(p));
+            for (int m = 0; m < moviesPerPerson; m++) {
+                int movie = movie(p, m, people);
+                nodes[m + 1] = node(MOVIE_ID_OFFSET + movie, "Movie", movieProperties(movie));
+
+                RelationshipModel relationship = new RelationshipModel();
+                relationship.setId(relationshipId(p, m, moviesPerPerson));
+                relationship.setType("ACTED_IN");
+                relationship.setStartNode((long) p);
+                relationship.setEndNode(MOVIE_ID_OFFSET + movie);
+                relationships[m] = relationship;
+            }
+
+            DefaultGraphModel graphModel = new DefaultGraphModel();
+            graphModel.setNodes(nodes);
+            graphModel.setRelationships(relationships);
+            graphModels.add(graphModel);
+        }
+        return graphModels;
+    }
+
+    /**
+     * @return the same graph as {@link #graphModels(int, int)} in the format of the transactional HTTP endpoint
+     */
+    public static String graphJson(int people, int moviesPerPerson) {
+        StringBuilder json = new StringBuilder("{\"results\":[{\"columns\":[\"p\"],\"data\":[");
+        for (int p = 0; p < people; p++) {
+            if (p > 0) {
+                json.append(',');
+            }
+            json.append("{\"graph\":{\"nodes\":[");
+            json.append("{\"id\":\"").append(p).append("\",\"labels\":[\"Person\"],\"properties\":{")
+                .append("\"name\":\"person-").append(p).append("\",")
+                .append("\"born\":").append(born(p)).append(',')
+                .append("\"rating\":").append(rating(p)).append(',')
+                .append("\"aliases\":[\"alias-").append(p).append("\"]}}");
+            for (int m = 0; m < moviesPerPerson; m++) {
+                int movie = movie(p, m, people);
+                json.append(",{\"id\":\"").append(MOVIE_ID_OFFSET + movie).append("\",\"labels\":[\"Movie\"],\"properties\":{")
+                    .append("\"title\":\"movie-").append(movie).append("\",")
+                    .append("\"released\":").append(released(movie)).append("}}");
+            }
+            json.append("],\"relationships\":[");
+            for (int m = 0; m < moviesPerPerson; m++) {
+                if (m > 0) {
+                    json.append(',');
+                }
+                json.append("{\"id\":\"").append(relationshipId(p, m, moviesPerPerson))
+                    .append("\",\"type\":\"ACTED_IN\",\"startNode\":\"").append(p)
+                    .append("\",\"endNode\":\"").append(MOVIE_ID_OFFSET + movie(p, m, people))
+                    .append("\",\"properties\":{}}");
+            }
+            json.append("]}}");
+        }
+        return json.append("]}],\"errors\":[]}").toString();
+    }
+
+    /**
+     * @return new (unsaved) people with the same shape as {@link #graphModels(int, int)}
+     */
+    public static List<Person> people(int people, int moviesPerPerson) {
+        Movie[] movies = new Movie[people];
+        for (int m = 0; m < people; m++) {
+            movies[m] = new Movie("movie-" + m, released(m));
+        }
+        List<Person> result = new ArrayList<>(people);
+        for (int p = 0; p < people; p++) {
+            Person person = new Person("person-" + p, born(p), rating(p), "alias-" + p);
+            for (int m = 0; m < moviesPerPerson; m++) {
+                person.getMovies().add(movies[movie(p, m, people)]);
+            }
+            result.add(person);
+        }
+        return result;
+    }
+
+    public static Response<GraphModel> response(List<GraphModel> graphModels) {
+        final Iterator<GraphModel> iterator = graphModels.iterator();
+        return new Response<GraphModel>() {
+
+            @Override
+            public GraphModel next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[]{"p"};
+            }
+        };
+    }
+
+    private static NodeModel node(long id, String label, Map<String, Object> properties) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[]{label});
+        node.setProperties(properties);
+        return node;
+    }
+
+    private static Map<String, Object> personProperties(int p) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "person-" + p);
+        properties.put("born", born(p));
+        properties.put("rating", rating(p));
+        properties.put("aliases", Arrays.asList("alias-" + p));
+        return properties;
+    }
+
+    private static Map<String, Object> movieProperties(int movie) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("title", "movie-" + movie);
+        properties.put("released", released(movie));
+        return properties;
+    }
+
+    private static int movie(int person, int m, int movies) {
+        return (person + m) % movies;
+    }
+
+    private static long relationshipId(int person, int m, int moviesPerPerson) {
+        return RELATIONSHIP_ID_OFFSET + (long) person * moviesPerPerson + m;
+    }
+
+    private static int born(int person) {
+        return 1900 + person % 100;
+    }
+
+    private static double rating(int person) {
+        return (person % 10) / 2.0;
+    }
+
+    private static int released(int movie) {
+        return 1950 + movie % 70;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Maps load responses into entities, once into a fresh mapping context (first load) and once into a context already
+ * holding all entities (reload).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphEntityMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int people;
+
+    @Param({"1", "10"})
+    private int moviesPerPerson;
+
+    private MetaData metaData;
+    private List<GraphModel> graphModels;
+    private MappingContext populatedContext;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        graphModels = Fixtures.graphModels(people, Math.min(moviesPerPerson, people));
+        populatedContext = new MappingContext(metaData);
+        new GraphEntityMapper(metaData, populatedContext).map(Person.class, Fixtures.response(graphModels));
+    }
+
+    @Benchmark
+    public Iterable<Person> mapIntoEmptyContext() {
+        return new GraphEntityMapper(metaData, new MappingContext(metaData)).map(Person.class, Fixtures.response(graphModels));
+    }
+
+    @Benchmark
+    public Iterable<Person> mapIntoPopulatedContext() {
+        return new GraphEntityMapper(metaData, populatedContext).map(Person.class, Fixtures.response(graphModels));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.neo4j.ogm.drivers.http.response.GraphModelResponse;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parses a response of the transactional HTTP endpoint into graph models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpResponseBenchmark {
+
+    @Param({"100", "1000"})
+    private int people;
+
+    @Param({"1", "10"})
+    private int moviesPerPerson;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.graphJson(people, Math.min(moviesPerPerson, people)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int parseGraphModels() {
+        int records = 0;
+        try (Response<GraphModel> response = new GraphModelResponse(new ByteArrayHttpResponse(json))) {
+            while (response.next() != null) {
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private static class ByteArrayHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+        ByteArrayHttpResponse(byte[] content) {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+            setEntity(new ByteArrayEntity(content));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Looks up class metadata by class name and resolves the class of a node from its labels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaDataBenchmark {
+
+    private MetaData metaData;
+    private String className;
+    private String[] labels;
+    private String[] labelsWithForeignLabel;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        className = Person.class.getName();
+        labels = new String[]{"Person"};
+        labelsWithForeignLabel = new String[]{"Person", "Actor"};
+    }
+
+    @Benchmark
+    public ClassInfo classInfo() {
+        return metaData.classInfo(className);
+    }
+
+    @Benchmark
+    public ClassInfo resolve() {
+        return metaData.resolve(labels);
+    }
+
+    @Benchmark
+    public ClassInfo resolveWithForeignLabel() {
+        return metaData.resolve(labelsWithForeignLabel);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.driver.DefaultParameterConversion;
+import org.neo4j.ogm.driver.DirectParameterConversion;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Converts the <code>{rows}</code> parameters of the statements saving new entities, the way the Bolt and embedded
+ * drivers do before running them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+    @Param({"1000", "10000"})
+    private int people;
+
+    private List<Map<String, Object>> parameters;
+
+    @Setup
+    public void setUp() {
+        MetaData metaData = Fixtures.metaData();
+        EntityGraphMapper mapper = new EntityGraphMapper(metaData, new MappingContext(metaData));
+        for (Person person : Fixtures.people(people, 1)) {
+            mapper.map(person, 1);
+        }
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        parameters = new ArrayList<>();
+        for (Statement statement : compiler.getAllStatements()) {
+            parameters.add(statement.getParameters());
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> jacksonConversion() {
+        return convert(DefaultParameterConversion.INSTANCE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> directConversion() {
+        return convert(DirectParameterConversion.INSTANCE);
+    }
+
+    private List<Map<String, Object>> convert(ParameterConversion parameterConversion) {
+        List<Map<String, Object>> converted = new ArrayList<>(parameters.size());
+        for (Map<String, Object> statementParameters : parameters) {
+            converted.add(parameterConversion.convertParameters(statementParameters));
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.session.request.strategy.impl.SchemaLoadClauseBuilder;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Builds the return clause of the schema load strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaLoadClauseBuilderBenchmark {
+
+    @Param({"1", "2", "5"})
+    private int depth;
+
+    private SchemaLoadClauseBuilder builder;
+
+    @Setup
+    public void setUp() {
+        builder = new SchemaLoadClauseBuilder(Fixtures.metaData().getSchema());
+    }
+
+    @Benchmark
+    public String build() {
+        return builder.build("n", "Person", depth);
+    }
+}
@@ -25,6 +25,7 @@ import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,9 +83,14 @@ public class BoltDriver extends AbstractConfigurableDriver {
 
     @Override
     public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        return newTransaction(type, bookmarks, transactionManager);
+    }
+
+    @Override
+    public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks, TransactionManager transactionManager) {
         checkDriverInitialized();
         Session session = newSession(type, bookmarks); //A bolt session can have at most one transaction running at a time
-        return new BoltTransaction(transactionManager, nativeTransaction(session), session, type);
+        return new BoltTransaction(transactionManager, nativeTransaction(session, transactionManager), session, type);
     }
 
     private void checkDriverInitialized() {
@@ -147,7 +153,12 @@ public class BoltDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
-        return new BoltRequest(transactionManager);
+        return request(transactionManager);
+    }
+
+    @Override
+    public Request request(TransactionManager transactionManager) {
+        return new BoltRequest(transactionManager, parameterConversion, queryLogger);
     }
 
     private Session newSession(Transaction.Type type, Iterable<String> bookmarks) {
@@ -163,7 +174,7 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return boltSession;
     }
 
-    private org.neo4j.driver.v1.Transaction nativeTransaction(Session session) {
+    private org.neo4j.driver.v1.Transaction nativeTransaction(Session session, TransactionManager transactionManager) {
 
         org.neo4j.driver.v1.Transaction nativeTransaction;
 
@@ -15,17 +15,17 @@ package org.neo4j.ogm.drivers.bolt.request;
 
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.ClientException;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.DirectParameterConversion;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.driver.QueryLogger;
 import org.neo4j.ogm.drivers.bolt.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.GraphRowModelResponse;
+import org.neo4j.ogm.drivers.bolt.response.MultiStatementRowModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RestModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RowModelResponse;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
@@ -48,18 +48,28 @@ import org.slf4j.LoggerFactory;
  */
 public class BoltRequest implements Request {
 
-    private final TransactionManager transactionManager;
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+    private final TransactionManager transactionManager;
 
-    private final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
+    private final ParameterConversion parameterConversion;
 
-    private TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
+    private final QueryLogger queryLogger;
 
 
     public BoltRequest(TransactionManager transactionManager) {
+        this(transactionManager, DirectParameterConversion.INSTANCE);
+    }
+
+    public BoltRequest(TransactionManager transactionManager, ParameterConversion parameterConversion) {
+        this(transactionManager, parameterConversion, QueryLogger.DEFAULT);
+    }
+
+    public BoltRequest(TransactionManager transactionManager, ParameterConversion parameterConversion,
+        QueryLogger queryLogger) {
         this.transactionManager = transactionManager;
+        this.parameterConversion = parameterConversion;
+        this.queryLogger = queryLogger.withLogger(LOGGER);
     }
 
     @Override
@@ -81,10 +91,21 @@ public class BoltRequest implements Request {
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
+        // the statements of a request are logged, or not, together
+        boolean logged = queryLogger.isEnabled();
+        if (transactionManager.getCurrentTransaction() != null) {
+            // send all statements before reading any result, so the batch costs one round trip instead of one per statement
+            List<StatementResult> results = new ArrayList<>();
+            for (Statement statement : query.getStatements()) {
+                results.add(executeRequest(statement, logged));
+            }
+            return new MultiStatementRowModelResponse(results, transactionManager);
+        }
+
         final List<RowModel> rowmodels = new ArrayList<>();
         String[] columns = null;
         for (Statement statement : query.getStatements()) {
-            StatementResult result = executeRequest(statement);
+            StatementResult result = executeRequest(statement, logged);
             if (columns == null) {
                 List<String> columnSet = result.keys();
                 columns = columnSet.toArray(new String[columnSet.size()]);
@@ -138,11 +159,17 @@ public class BoltRequest implements Request {
     }
 
     private StatementResult executeRequest(Statement request) {
+        return executeRequest(request, queryLogger.isEnabled());
+    }
+
+    private StatementResult executeRequest(Statement request, boolean logged) {
         BoltTransaction tx;
         try {
 
-            Map<String, Object> parameterMap = mapper.convertValue(request.getParameters(), MAP_TYPE_REF);
-            LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
+            Map<String, Object> parameterMap = parameterConversion.convertParameters(request.getParameters());
+            if (logged) {
+                queryLogger.log(request.getStatement(), parameterMap);
+            }
 
             if (transactionManager.getCurrentTransaction() == null) {
                 org.neo4j.ogm.transaction.Transaction autoCommitTx = transactionManager.openTransaction();
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.List;
+
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rows of several statements which have all been sent before any of their results is read, returned statement after
+ * statement. The results are read as the rows are, so an error of a statement is only reported once the rows of the
+ * statements before it have been read, or when the response is closed.
+ */
+public class MultiStatementRowModelResponse implements Response<RowModel> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiStatementRowModelResponse.class);
+
+    private final List<StatementResult> results;
+    private final TransactionManager transactionManager;
+
+    private int current;
+    private RowModelResponse currentResponse;
+
+    public MultiStatementRowModelResponse(List<StatementResult> results, TransactionManager transactionManager) {
+        this.results = results;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public RowModel next() {
+        try {
+            while (current < results.size()) {
+                if (currentResponse == null) {
+                    currentResponse = new RowModelResponse(results.get(current), transactionManager);
+                }
+                RowModel model = currentResponse.next();
+                if (model != null) {
+                    return model;
+                }
+                results.get(current++).consume();
+                currentResponse = null;
+            }
+            return null;
+        } catch (ClientException ce) {
+            throw cypherException(ce);
+        } catch (CypherException ce) {
+            // already rolled back by the response of the statement
+            current = results.size();
+            throw ce;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            // reading the remaining results makes sure an error of any of the statements is reported
+            for (; current < results.size(); current++) {
+                results.get(current).consume();
+            }
+        } catch (ClientException ce) {
+            throw cypherException(ce);
+        }
+    }
+
+    @Override
+    public String[] columns() {
+        if (results.isEmpty()) {
+            return null;
+        }
+        try {
+            List<String> columns = results.get(0).keys();
+            return columns.toArray(new String[columns.size()]);
+        } catch (ClientException ce) {
+            throw cypherException(ce);
+        }
+    }
+
+    private CypherException cypherException(ClientException ce) {
+        // the transaction is rolled back, the results of the other statements are not worth reading any more
+        current = results.size();
+        BoltTransaction tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+        if (tx != null) {
+            tx.rollback();
+        }
+        LOGGER.debug("Error executing Cypher: {}, {}", ce.code(), ce.getMessage());
+        return new CypherException("Error executing Cypher", ce, ce.code(), ce.getMessage());
+    }
+}
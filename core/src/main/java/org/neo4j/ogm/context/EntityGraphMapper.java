@@ -14,8 +14,8 @@
 package org.neo4j.ogm.context;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +25,7 @@ import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.compiler.SrcTargetKey;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.cypher.compiler.CypherContext;
 import org.neo4j.ogm.cypher.compiler.MultiStatementCypherCompiler;
 import org.neo4j.ogm.cypher.compiler.NodeBuilder;
 import org.neo4j.ogm.cypher.compiler.RelationshipBuilder;
@@ -50,7 +51,7 @@ public class EntityGraphMapper implements EntityMapper {
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
-    private final Compiler compiler  = new MultiStatementCypherCompiler();
+    private final MultiStatementCypherCompiler compiler  = new MultiStatementCypherCompiler();
 
     /**
      * Constructs a new {@link EntityGraphMapper} that uses the given {@link MetaData}.
@@ -76,11 +77,9 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
-        }
+        // won't be modified by the mapping request. They are shared with the compile context
+        // rather than copied, so the cost of mapping does not grow with the size of the session.
+        compiler.context().registerKnownRelationships(mappingContext.relationshipRegister());
 
         LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
 
@@ -143,52 +142,46 @@ public class EntityGraphMapper implements EntityMapper {
      * Detects object references (including from lists) that have been deleted in the domain.
      * These must be persisted as explicit requests to delete the corresponding relationship in the graph
      *
-     * @param compiler the {@link org.neo4j.ogm.cypher.compiler.Compiler} instance.
+     * @param compiler the {@link org.neo4j.ogm.cypher.compiler.MultiStatementCypherCompiler} instance.
      */
-    private void deleteObsoleteRelationships(Compiler compiler) {
-        CompileContext context = compiler.context();
-
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
+    private void deleteObsoleteRelationships(MultiStatementCypherCompiler compiler) {
+        CypherContext context = compiler.context();
 
-            // if we cannot remove this relationship from the compile context, it
-            // means the user has deleted the relationship
-            if (!context.removeRegisteredRelationship(mappedRelationship)) {
+        // the known relationships that were removed from the compile context and not registered again
+        // are the ones the user has deleted
+        for (Mappable obsoleteRelationship : new ArrayList<>(context.getObsoleteRelationships())) {
+            MappedRelationship mappedRelationship = (MappedRelationship) obsoleteRelationship;
 
-                LOGGER.debug("context-del: {}", mappedRelationship);
+            LOGGER.debug("context-del: {}", mappedRelationship);
 
-                // tell the compiler to prepare a statement that will delete the relationship from the graph
-                compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
+            // tell the compiler to prepare a statement that will delete the relationship from the graph
+            compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
 
-                // remove all nodes that are referenced by this relationship in the mapping context
-                // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+            // remove all nodes that are referenced by this relationship in the mapping context
+            // this will ensure that stale versions of these objects don't exist
+            clearRelatedObjects(mappedRelationship.getStartNodeId());
+            clearRelatedObjects(mappedRelationship.getEndNodeId());
 
-                // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
-            }
+            // finally remove the relationship from the mapping context
+            mappingContext.removeRelationship(mappedRelationship);
         }
+        context.getObsoleteRelationships().clear();
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.relationshipsOf(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -216,7 +209,15 @@ public class EntityGraphMapper implements EntityMapper {
 
         NodeBuilder nodeBuilder = getNodeBuilder(compiler, entity);
         if (nodeBuilder != null) {
-            updateNode(entity, context, nodeBuilder);
+            if (mappingContext.savedByEarlierChunk(mappingContext.nativeId(entity))) {
+                context.deregister(nodeBuilder);
+                if (horizon < 0) {
+                    LOGGER.debug("saved with everything it reaches by an earlier chunk: {}", entity);
+                    return nodeBuilder;
+                }
+            } else {
+                updateNode(entity, context, nodeBuilder);
+            }
             if (horizon != 0) {
                 mapEntityReferences(entity, nodeBuilder, horizon - 1, compiler);
             } else {
@@ -238,8 +239,8 @@ public class EntityGraphMapper implements EntityMapper {
         if (mappingContext.isDirty(entity)) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
-            ClassInfo classInfo = metaData.classInfo(entity);
-            Collection<FieldInfo> propertyReaders = classInfo.propertyFields();
+            // only the properties that changed are written for nodes that are already in the graph
+            Collection<FieldInfo> propertyReaders = mappingContext.dirtyPropertyFields(entity);
             for (FieldInfo propertyReader : propertyReaders) {
                 if (propertyReader.isComposite()) {
                     nodeBuilder.addProperties(propertyReader.readComposite(entity));
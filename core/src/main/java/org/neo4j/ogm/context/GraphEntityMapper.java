@@ -20,6 +20,9 @@ import static org.neo4j.ogm.metadata.reflect.EntityAccessManager.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
@@ -66,6 +69,11 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
     private final EntityFactory entityFactory;
     private final MetaData metadata;
 
+    // how edges resolve onto entities only depends on the relationship type and direction and on the classes of the
+    // entities at either end, so the resolutions are kept for all edges mapped by this mapper
+    private final Map<EdgeResolution, ClassInfo> relationshipEntityResolutions = new HashMap<>();
+    private final Map<EdgeResolution, FieldInfo> iterableWriterResolutions = new HashMap<>();
+
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext) {
         this.metadata = metaData;
         this.entityFactory = new EntityFactory(metadata);
@@ -101,6 +109,44 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         return objects;
     }
 
+    /**
+     * Map the response lazily, one record at a time, as the returned stream is consumed.
+     *
+     * Unlike {@link #map(Class, Response)} the entities are handed out as soon as the record containing them has been
+     * mapped, so the whole result never has to be held in memory. Each entity of the given type is emitted once,
+     * @PostLoad is executed on the entities created for each record and the mapping context is given the chance to
+     * evict entities after every record. The response is closed when the stream is exhausted or closed.
+     * <p>
+     * A later record may still add relationships to an entity already handed out, so the entities handed out are never
+     * evicted before the stream is closed and are completed in place. Their ids are kept until then, to emit each
+     * entity once. Other entities, such as the neighbours of the entities handed out, may be evicted after any record.
+     *
+     * @param type class of entities to return
+     * @param response response to map
+     * @param <T> type
+     *
+     * @return stream of entities matching given type
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response) {
+        return stream(type, response, false);
+    }
+
+    /**
+     * Same as {@link #stream(Class, Response)}. When every record of the response holds a single entity that no other
+     * record holds, as at depth 0, nothing is kept across records and the entities handed out may be evicted.
+     *
+     * @param type class of entities to return
+     * @param response response to map
+     * @param singleEntityRecords true if every record holds one entity of its own
+     * @param <T> type
+     *
+     * @return stream of entities matching given type
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response, boolean singleEntityRecords) {
+        GraphModelSpliterator<T> spliterator = new GraphModelSpliterator<>(type, response, singleEntityRecords);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     Map<Long, Object> mapRelationships(GraphModel model) {
         Map<Long, Object> results = new HashMap<>();
         Set<Long> edgeIds = new LinkedHashSet<>();
@@ -404,12 +450,12 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             Object relationshipEntity = mappingContext.getRelationshipEntity(edge.getId());
             if (relationshipEntity != null) {
                 // establish a relationship between
-                FieldInfo outgoingWriter = findIterableWriter(instance, relationshipEntity, edge.getType(), OUTGOING);
+                FieldInfo outgoingWriter = findIterableWriter(instance, relationshipEntity.getClass(), edge.getType(), OUTGOING);
                 if (outgoingWriter != null) {
                     entityCollector.collectRelationship(edge.getStartNode(), edge.getType(), OUTGOING, edge.getId(), edge.getEndNode(), relationshipEntity);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(outgoingWriter.typeParameterDescriptor())));
                 }
-                FieldInfo incomingWriter = findIterableWriter(parameter, relationshipEntity, edge.getType(), INCOMING);
+                FieldInfo incomingWriter = findIterableWriter(parameter, relationshipEntity.getClass(), edge.getType(), INCOMING);
                 if (incomingWriter != null) {
                     entityCollector.collectRelationship(edge.getEndNode(), edge.getType(), INCOMING, edge.getId(), edge.getStartNode(), relationshipEntity);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(incomingWriter.typeParameterDescriptor())));
@@ -454,14 +500,20 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
      * Return an iterable writer to map a relationship onto an entity for the given relationshipType and relationshipDirection
      *
      * @param instance the instance onto which the relationship is to be mapped
-     * @param parameter the value to be mapped
+     * @param parameterType the type of the value to be mapped
      * @param relationshipType the relationship type
      * @param relationshipDirection the relationship direction
      * @return FieldWriter or null if none exists
      */
-    private FieldInfo findIterableWriter(Object instance, Object parameter, String relationshipType, String relationshipDirection) {
+    private FieldInfo findIterableWriter(Object instance, Class<?> parameterType, String relationshipType, String relationshipDirection) {
+        EdgeResolution resolution = new EdgeResolution(relationshipType, relationshipDirection, instance.getClass(), parameterType);
+        if (iterableWriterResolutions.containsKey(resolution)) {
+            return iterableWriterResolutions.get(resolution);
+        }
         ClassInfo classInfo = metadata.classInfo(instance);
-        return EntityAccessManager.getIterableField(classInfo, parameter.getClass(), relationshipType, relationshipDirection);
+        FieldInfo writer = EntityAccessManager.getIterableField(classInfo, parameterType, relationshipType, relationshipDirection);
+        iterableWriterResolutions.put(resolution, writer);
+        return writer;
     }
 
 
@@ -476,37 +528,43 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
      */
     private void mapOneToMany(Object instance, Class<?> valueType, Object values, String relationshipType, String relationshipDirection) {
 
-        ClassInfo classInfo = metadata.classInfo(instance);
-
-        FieldInfo writer = EntityAccessManager.getIterableField(classInfo, valueType, relationshipType, relationshipDirection);
+        // the field is read to merge the current values and then written, so it is both the reader and the writer
+        FieldInfo writer = findIterableWriter(instance, valueType, relationshipType, relationshipDirection);
         if (writer != null) {
             if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                FieldInfo reader = EntityAccessManager.getIterableField(classInfo, valueType, relationshipType, relationshipDirection);
-                Object currentValues;
-                if (reader != null) {
-                    currentValues = reader.read(instance);
-                    if (writer.type().isArray()) {
-                        values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
-                    } else {
-                        values = EntityAccessManager.merge(writer.type(), values, (Collection) currentValues, valueType);
-                    }
+                Object currentValues = writer.read(instance);
+                if (writer.type().isArray()) {
+                    values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
+                } else {
+                    values = EntityAccessManager.merge(writer.type(), values, (Collection) currentValues, valueType);
                 }
             }
             writer.write(instance, values);
             return;
         }
         // this is not necessarily an error. but we can't tell.
-        logger.debug("Unable to map iterable of type: {} onto property of {}", valueType, classInfo.name());
+        logger.debug("Unable to map iterable of type: {} onto property of {}", valueType, metadata.classInfo(instance).name());
     }
 
     // Find the correct RE associated with the edge. The edge type may be polymorphic, so we need to do a bit of work
-    // to identify the correct RE to bind to. We must not cache the value when found, because the correct determination
-    // depends on the runtime values of the edge in the mapping context, which may vary for the same edge pattern.
+    // to identify the correct RE to bind to. The resolution depends only on the edge type and on the classes of the
+    // entities at either end, so it is cached by those classes.
     private ClassInfo getRelationshipEntity(Edge edge) {
 
         Object source = mappingContext.getNodeEntity(edge.getStartNode());
         Object target = mappingContext.getNodeEntity(edge.getEndNode());
 
+        EdgeResolution resolution = new EdgeResolution(edge.getType(), OUTGOING, source.getClass(), target.getClass());
+        if (relationshipEntityResolutions.containsKey(resolution)) {
+            return relationshipEntityResolutions.get(resolution);
+        }
+        ClassInfo classInfo = resolveRelationshipEntity(edge, source, target);
+        relationshipEntityResolutions.put(resolution, classInfo);
+        return classInfo;
+    }
+
+    private ClassInfo resolveRelationshipEntity(Edge edge, Object source, Object target) {
+
         Set<ClassInfo> classInfos = metadata.classInfoByLabelOrType(edge.getType());
 
         for (ClassInfo classInfo : classInfos) {
@@ -613,4 +671,151 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
         return classInfo.propertyField(propertyName);
     }
+
+    /**
+     * Key of the resolutions of edges of a relationship type, in a direction, between entities of given classes.
+     */
+    private static class EdgeResolution {
+
+        private final String relationshipType;
+        private final String relationshipDirection;
+        private final Class<?> instanceClass;
+        private final Class<?> parameterClass;
+
+        EdgeResolution(String relationshipType, String relationshipDirection, Class<?> instanceClass, Class<?> parameterClass) {
+            this.relationshipType = relationshipType;
+            this.relationshipDirection = relationshipDirection;
+            this.instanceClass = instanceClass;
+            this.parameterClass = parameterClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            EdgeResolution that = (EdgeResolution) o;
+
+            return relationshipType.equals(that.relationshipType)
+                && relationshipDirection.equals(that.relationshipDirection)
+                && instanceClass == that.instanceClass
+                && parameterClass == that.parameterClass;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = relationshipType.hashCode();
+            result = 31 * result + relationshipDirection.hashCode();
+            result = 31 * result + instanceClass.hashCode();
+            result = 31 * result + parameterClass.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * Pulls graph models from the response on demand and maps them record by record. The entities handed out are
+     * spared from eviction until the stream is closed, as a later record may still add relationships to them, except
+     * when every record holds a single entity of its own.
+     */
+    private class GraphModelSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Class<T> type;
+        private final Response<GraphModel> response;
+        private final Deque<T> pending = new ArrayDeque<>();
+        // ids of the node and relationship entities handed out, null when records don't share entities
+        private final LongSet handedOutNodes;
+        private final LongSet handedOutEdges;
+        private boolean closed;
+
+        GraphModelSpliterator(Class<T> type, Response<GraphModel> response, boolean singleEntityRecords) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.type = type;
+            this.response = response;
+            this.handedOutNodes = singleEntityRecords ? null : new LongSet();
+            this.handedOutEdges = singleEntityRecords ? null : new LongSet();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (pending.isEmpty()) {
+                if (closed) {
+                    return false;
+                }
+                GraphModel graphModel = response.next();
+                if (graphModel == null) {
+                    close();
+                    return false;
+                }
+                mapRecord(graphModel);
+            }
+            action.accept(pending.poll());
+            return true;
+        }
+
+        private void mapRecord(GraphModel graphModel) {
+            // @PostLoad is executed on the entities created for this record
+            Set<Long> newNodeIds = new LinkedHashSet<>();
+            Set<Long> newEdgeIds = new LinkedHashSet<>();
+            for (Node node : graphModel.getNodes()) {
+                if (mappingContext.getNodeEntity(node.getId()) == null) {
+                    newNodeIds.add(node.getId());
+                }
+            }
+            for (Edge edge : graphModel.getRelationships()) {
+                if (mappingContext.getRelationshipEntity(edge.getId()) == null) {
+                    newEdgeIds.add(edge.getId());
+                }
+            }
+
+            Set<Long> nodeIds = new LinkedHashSet<>();
+            Set<Long> edgeIds = new LinkedHashSet<>();
+            List<T> mappedEntities = map(type, graphModel, nodeIds, edgeIds);
+            newNodeIds.retainAll(nodeIds);
+            newEdgeIds.retainAll(edgeIds);
+            executePostLoad(newNodeIds, newEdgeIds);
+
+            for (T entity : mappedEntities) {
+                if (handOut(entity)) {
+                    pending.add(entity);
+                }
+            }
+            // the following records may still add relationships to the entities of this one
+            mappingContext.evictIfNecessary(
+                id -> nodeIds.contains(id) || handedOutNodes != null && handedOutNodes.contains(id),
+                id -> edgeIds.contains(id) || handedOutEdges != null && handedOutEdges.contains(id));
+        }
+
+        /**
+         * @return false if the entity has already been handed out
+         */
+        private boolean handOut(T entity) {
+            if (handedOutNodes == null) {
+                return true;
+            }
+            ClassInfo classInfo = metadata.classInfo(entity);
+            if (!classInfo.isRelationshipEntity()) {
+                return handedOutNodes.add(mappingContext.nativeId(entity));
+            }
+            if (!handedOutEdges.add(mappingContext.nativeId(entity))) {
+                return false;
+            }
+            // a relationship entity is handed out together with its start and end nodes
+            handedOutNodes.add(mappingContext.nativeId(classInfo.getStartNodeReader().read(entity)));
+            handedOutNodes.add(mappingContext.nativeId(classInfo.getEndNodeReader().read(entity)));
+            return true;
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                response.close();
+                // the entities handed out no longer need to be kept
+                if (handedOutNodes != null) {
+                    handedOutNodes.clear();
+                    handedOutEdges.clear();
+                }
+                mappingContext.evictIfNecessary();
+            }
+        }
+    }
 }
@@ -13,8 +13,6 @@
 
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.*;
 
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -24,32 +22,32 @@ import org.neo4j.ogm.utils.EntityUtils;
 
 /**
  * Maintains entity footprints for dirty checking.
+ * <p>
+ * Relationship entities are remembered by a single hash of their properties. Node entities are remembered by one hash
+ * per field, so that the properties which changed since they were loaded or saved can be told apart.
  *
  * @author Vince Bickers
  * @author Mark Angrish
  */
 class IdentityMap {
 
-    // objects with no properties will always hash to this value.
-    private static final long SEED = 0xDEADBEEF / (11 * 257);
+    private final LongObjectMap<long[]> nodeFieldHashes;
 
-    private final Map<Long, Long> nodeHash;
+    private final LongLongMap relEntityHash;
 
-    private final Map<Long, Long> relEntityHash;
-
-    private final Map<Long, LabelHistory> labelHistoryRegister;
+    private final LongObjectMap<LabelHistory> labelHistoryRegister;
 
     private final MetaData metaData;
 
     IdentityMap(MetaData metaData) {
-        this.nodeHash = new HashMap<>();
-        this.relEntityHash = new HashMap<>();
-        labelHistoryRegister = new HashMap<>();
+        this.nodeFieldHashes = new LongObjectMap<>();
+        this.relEntityHash = new LongLongMap();
+        labelHistoryRegister = new LongObjectMap<>();
         this.metaData = metaData;
     }
 
     /**
-     * constructs a 64-bit hash of this object's node properties
+     * constructs a 64-bit hash of this object's properties, or of each of its fields for nodes,
      * and maps the object to that hash. The object must not be null
      *
      * @param object the object whose persistable properties we want to hash
@@ -60,7 +58,7 @@ class IdentityMap {
         if (metaData.isRelationshipEntity(classInfo.name())) {
             relEntityHash.put(entityId, hash(object, classInfo));
         } else {
-            nodeHash.put(entityId, hash(object, classInfo));
+            nodeFieldHashes.put(entityId, classInfo.getDirtyCheckPlan().fieldHashes(object));
         }
         collectLabelHistory(object, entityId, classInfo);
     }
@@ -84,19 +82,55 @@ class IdentityMap {
                 isRelEntity = true;
             }
 
-            if ((!isRelEntity && !nodeHash.containsKey(entityId)) ||
-                    (isRelEntity && !relEntityHash.containsKey(entityId))) {
+            if (!isRelEntity) {
+                long[] expected = nodeFieldHashes.get(entityId);
+                return expected != null && classInfo.getDirtyCheckPlan().matches(object, expected);
+            }
+
+            if (!relEntityHash.containsKey(entityId)) {
                 return false;
             }
 
             long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+            long expected = relEntityHash.getOrDefault(entityId, 0L);
 
             return (actual == expected);
         }
         return false;
     }
 
+    /**
+     * Returns the property fields of a node entity whose values changed since it was remembered. All property fields
+     * are returned for relationship entities and for entities which aren't remembered, like new ones.
+     *
+     * @param object the entity whose changed property fields we want
+     * @param entityId the native id of the entity, <code>null</code> if it has none
+     * @return the changed property fields
+     */
+    Collection<FieldInfo> changedPropertyFields(Object object, Long entityId) {
+        ClassInfo classInfo = metaData.classInfo(object);
+        long[] expected = entityId == null ? null : nodeFieldHashes.get(entityId);
+        if (expected == null || metaData.isRelationshipEntity(classInfo.name())) {
+            return classInfo.propertyFields();
+        }
+        return classInfo.getDirtyCheckPlan().changedPropertyFields(object, expected);
+    }
+
+    /**
+     * Removes the dirty-check hash and label history of an entity, e.g. when it is evicted from the mapping context.
+     *
+     * @param object the entity to forget
+     * @param entityId the native id of the entity
+     */
+    void forget(Object object, Long entityId) {
+        if (metaData.isRelationshipEntity(metaData.classInfo(object).name())) {
+            relEntityHash.remove(entityId);
+        } else {
+            nodeFieldHashes.remove(entityId);
+            labelHistoryRegister.remove(entityId);
+        }
+    }
+
     private void collectLabelHistory(Object entity, Long entityId, ClassInfo classInfo) {
         FieldInfo fieldInfo = classInfo.labelFieldOrNull();
         if (fieldInfo != null) {
@@ -110,58 +144,12 @@ class IdentityMap {
     }
 
     void clear() {
-        nodeHash.clear();
+        nodeFieldHashes.clear();
         relEntityHash.clear();
     }
 
 
     private long hash(Object object, ClassInfo classInfo) {
-        long hash = SEED;
-
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
-        }
-
-        for (FieldInfo fieldInfo : hashFields) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldInfo.read(field, object);
-            if (value != null) {
-
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + Arrays.hashCode(convertToObjectArray(value));
-                } else if (value instanceof Iterable) {
-                    hash = hash * 31L + value.hashCode();
-                } else {
-                    hash = hash * 31L + hash(value.toString());
-                }
-            }
-        }
-        return hash;
-    }
-
-    private long hash(String string) {
-        long h = 1125899906842597L; // prime
-        int len = string.length();
-
-        for (int i = 0; i < len; i++) {
-            h = 31 * h + string.charAt(i);
-        }
-        return h;
-    }
-
-    /**
-     * Convert an array or objects or primitives to an array of objects
-     *
-     * @param array array of unknown type
-     * @return array of objects
-     */
-    private Object[] convertToObjectArray(Object array) {
-        int len = Array.getLength(array);
-        Object[] out = new Object[len];
-        for (int i = 0; i < len; i++) {
-            out[i] = Array.get(array, i);
-        }
-        return Arrays.asList(out).toArray();
+        return classInfo.getDirtyCheckPlan().hash(object);
     }
 }
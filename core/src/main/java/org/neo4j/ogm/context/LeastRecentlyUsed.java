@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Keeps track of the order in which registered entities were last used, so that a bounded {@link MappingContext} can
+ * evict the least recently used ones first. Only maintained when the mapping context has a capacity.
+ */
+class LeastRecentlyUsed {
+
+    private final LinkedHashMap<Long, Boolean> ids = new LinkedHashMap<>(16, 0.75f, true);
+
+    void touch(long id) {
+        ids.put(id, Boolean.TRUE);
+    }
+
+    void remove(long id) {
+        ids.remove(id);
+    }
+
+    /**
+     * @return the id that was used least recently, or <code>null</code> if there is none
+     */
+    Long eldest() {
+        Iterator<Long> iterator = ids.keySet().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    void clear() {
+        ids.clear();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map with primitive <code>long</code> keys and values, used by the {@link IdentityMap} to
+ * hold the dirty-check hash of each entity without boxing.
+ * <p>
+ * Collisions are resolved by linear probing, removals use backward shifting so no tombstones are left behind.
+ * This class is not thread safe.
+ */
+class LongLongMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongLongMap(int expectedSize) {
+        allocate(LongHashing.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return used[indexOf(key)];
+    }
+
+    /**
+     * @return the value mapped to the key, or <code>defaultValue</code> if there is none
+     */
+    long getOrDefault(long key, long defaultValue) {
+        int index = indexOf(key);
+        return used[index] ? values[index] : defaultValue;
+    }
+
+    void put(long key, long value) {
+        int index = indexOf(key);
+        values[index] = value;
+        if (!used[index]) {
+            used[index] = true;
+            keys[index] = key;
+            if (++size > resizeThreshold) {
+                rehash(keys.length << 1);
+            }
+        }
+    }
+
+    /**
+     * @return true if a mapping was removed
+     */
+    boolean remove(long key) {
+        int index = indexOf(key);
+        if (!used[index]) {
+            return false;
+        }
+        shiftBackFrom(index);
+        size--;
+        return true;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(used, false);
+            size = 0;
+        }
+    }
+
+    private int indexOf(long key) {
+        int index = LongHashing.hash(key) & mask;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftBackFrom(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (!used[index]) {
+                break;
+            }
+            int ideal = LongHashing.hash(keys[index]) & mask;
+            if (LongHashing.isBetween(ideal, gap, index)) {
+                continue;
+            }
+            keys[gap] = keys[index];
+            values[gap] = values[index];
+            gap = index;
+        }
+        used[gap] = false;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int index = indexOf(oldKeys[i]);
+                used[index] = true;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
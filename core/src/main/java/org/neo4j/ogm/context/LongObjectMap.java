@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Open-addressing hash map with primitive <code>long</code> keys, used for the id based registers of the
+ * {@link MappingContext}. Compared to a <code>HashMap&lt;Long, V&gt;</code> it needs neither a boxed key nor an entry
+ * object per mapping.
+ * <p>
+ * Collisions are resolved by linear probing, removals use backward shifting so no tombstones are left behind.
+ * <code>null</code> values are not supported: a slot is free when its value is <code>null</code>.
+ * This class is not thread safe.
+ *
+ * @param <V> type of the values
+ */
+class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectMap(int expectedSize) {
+        allocate(LongHashing.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return values[indexOf(key)] != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * @return the previous value mapped to the key, or <code>null</code>
+     */
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values are not supported");
+        }
+        int index = indexOf(key);
+        @SuppressWarnings("unchecked")
+        V previous = (V) values[index];
+        values[index] = value;
+        if (previous == null) {
+            keys[index] = key;
+            if (++size > resizeThreshold) {
+                rehash(keys.length << 1);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * @return the value already mapped to the key, or <code>null</code> if the given value was added
+     */
+    V putIfAbsent(long key, V value) {
+        V existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    V computeIfAbsent(long key, Function<Long, ? extends V> mappingFunction) {
+        V existing = get(key);
+        if (existing == null) {
+            existing = mappingFunction.apply(key);
+            put(key, existing);
+        }
+        return existing;
+    }
+
+    /**
+     * @return the value that was mapped to the key, or <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous != null) {
+            shiftBackFrom(index);
+            size--;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes all mappings whose value matches the given predicate.
+     *
+     * @return the keys of the removed mappings
+     */
+    @SuppressWarnings("unchecked")
+    List<Long> removeIf(Predicate<? super V> predicate) {
+        List<Long> matching = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && predicate.test((V) values[i])) {
+                matching.add(keys[i]);
+            }
+        }
+        for (Long key : matching) {
+            remove(key);
+        }
+        return matching;
+    }
+
+    void forEachKey(LongConsumer action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i]);
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of the values currently held by this map
+     */
+    @SuppressWarnings("unchecked")
+    Collection<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    private int indexOf(long key) {
+        int index = LongHashing.hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftBackFrom(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (values[index] == null) {
+                break;
+            }
+            int ideal = LongHashing.hash(keys[index]) & mask;
+            if (LongHashing.isBetween(ideal, gap, index)) {
+                continue;
+            }
+            keys[gap] = keys[index];
+            values[gap] = values[index];
+            gap = index;
+        }
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of primitive <code>long</code> values, used to keep track of entity ids without boxing.
+ * <p>
+ * Collisions are resolved by linear probing, removals use backward shifting so no tombstones are left behind.
+ * This class is not thread safe.
+ */
+class LongSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongSet(int expectedSize) {
+        allocate(LongHashing.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(long value) {
+        return used[indexOf(value)];
+    }
+
+    /**
+     * @return true if the value wasn't in the set yet
+     */
+    boolean add(long value) {
+        int index = indexOf(value);
+        if (used[index]) {
+            return false;
+        }
+        used[index] = true;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(values.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the value was removed
+     */
+    boolean remove(long value) {
+        int index = indexOf(value);
+        if (!used[index]) {
+            return false;
+        }
+        shiftBackFrom(index);
+        size--;
+        return true;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(used, false);
+            size = 0;
+        }
+    }
+
+    private int indexOf(long value) {
+        int index = LongHashing.hash(value) & mask;
+        while (used[index] && values[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftBackFrom(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (!used[index]) {
+                break;
+            }
+            int ideal = LongHashing.hash(values[index]) & mask;
+            if (LongHashing.isBetween(ideal, gap, index)) {
+                continue;
+            }
+            values[gap] = values[index];
+            gap = index;
+        }
+        used[gap] = false;
+    }
+
+    private void allocate(int capacity) {
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int index = indexOf(oldValues[i]);
+                used[index] = true;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
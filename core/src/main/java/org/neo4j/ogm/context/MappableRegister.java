@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set of relationships indexed by the ids of their start and end nodes, so the relationships of a node can be found
+ * in time proportional to its degree rather than to the number of relationships held.
+ * <p>
+ * The index is maintained by all the set operations, including removal through the iterator. Elements must not change
+ * their start or end node ids while held. This class is not thread safe.
+ *
+ * @param <T> type of the relationships
+ */
+public class MappableRegister<T extends Mappable> extends AbstractSet<T> {
+
+    private final Set<T> relationships = new HashSet<>();
+    private final LongObjectMap<Set<T>> outgoing = new LongObjectMap<>();
+    private final LongObjectMap<Set<T>> incoming = new LongObjectMap<>();
+
+    /**
+     * @param startNodeId id of a start node
+     * @return the relationships held starting at that node, not to be modified
+     */
+    public Collection<T> outgoing(long startNodeId) {
+        return view(outgoing.get(startNodeId));
+    }
+
+    /**
+     * @param endNodeId id of an end node
+     * @return the relationships held ending at that node, not to be modified
+     */
+    public Collection<T> incoming(long endNodeId) {
+        return view(incoming.get(endNodeId));
+    }
+
+    /**
+     * @param nodeId id of a node
+     * @return a new collection of the relationships held starting or ending at that node
+     */
+    public Collection<T> relationshipsOf(long nodeId) {
+        Set<T> result = new HashSet<>(outgoing(nodeId));
+        result.addAll(incoming(nodeId));
+        return result;
+    }
+
+    @Override
+    public boolean add(T relationship) {
+        if (!relationships.add(relationship)) {
+            return false;
+        }
+        outgoing.computeIfAbsent(relationship.getStartNodeId(), id -> new HashSet<>()).add(relationship);
+        incoming.computeIfAbsent(relationship.getEndNodeId(), id -> new HashSet<>()).add(relationship);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!relationships.remove(o)) {
+            return false;
+        }
+        unindex((Mappable) o);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return relationships.contains(o);
+    }
+
+    @Override
+    public int size() {
+        return relationships.size();
+    }
+
+    @Override
+    public void clear() {
+        relationships.clear();
+        outgoing.clear();
+        incoming.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = relationships.iterator();
+        return new Iterator<T>() {
+
+            private T current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(current);
+            }
+        };
+    }
+
+    private void unindex(Mappable relationship) {
+        unindex(outgoing, relationship.getStartNodeId(), relationship);
+        unindex(incoming, relationship.getEndNodeId(), relationship);
+    }
+
+    private static <T> void unindex(LongObjectMap<Set<T>> index, long nodeId, Object relationship) {
+        Set<T> relationships = index.get(nodeId);
+        if (relationships != null) {
+            relationships.remove(relationship);
+            if (relationships.isEmpty()) {
+                index.remove(nodeId);
+            }
+        }
+    }
+
+    private static <T> Collection<T> view(Set<T> relationships) {
+        return relationships == null ? Collections.emptySet() : Collections.unmodifiableSet(relationships);
+    }
+}
@@ -14,6 +14,7 @@
 package org.neo4j.ogm.context;
 
 import java.util.*;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.exception.MappingException;
@@ -29,6 +30,19 @@ import org.neo4j.ogm.utils.EntityUtils;
  * The MappingContext maintains a map of all the objects created during the hydration
  * of an object map (domain hierarchy). The MappingContext lifetime is concurrent
  * with a session lifetime.
+ * <p>
+ * By default the context is unbounded. When created with a capacity, it keeps at most that many node entities and
+ * that many relationship entities: {@link #evictIfNecessary()} detaches the least recently used ones. Evicted node
+ * entities lose their primary index entries and dirty-check hashes, but unlike {@link #detachNodeEntity(Long)} eviction
+ * doesn't cascade: their mapped relationships to node entities that are still registered are kept, and only the
+ * relationships with neither end registered any more are dropped. Unlike {@link #detachRelationshipEntity(Long)},
+ * evicting a relationship entity leaves its start and end nodes registered, as well as their mapped relationships.
+ * Evicted entities are no longer tracked by the session: saving one again treats it as modified, and loading it again
+ * creates a new instance.
+ * <p>
+ * A context created without tracking only registers entities by id and primary index, so that each entity is
+ * hydrated once and can be looked up. It keeps no dirty-check hashes, label history or mapped relationships, and can't
+ * be used to save or delete entities. Read-only sessions use one such context per request.
  *
  * @author Vince Bickers
  * @author Luanne Misquitta
@@ -37,7 +51,7 @@ import org.neo4j.ogm.utils.EntityUtils;
 public class MappingContext {
 
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -45,26 +59,73 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
-    private final Set<MappedRelationship> relationshipRegister;
+    private final MappableRegister<MappedRelationship> relationshipRegister;
+
+    // start or end node entity -> ids of the relationship entities registered with it
+    private final Map<Object, Set<Long>> relationshipEntitiesByEndpoint;
+
+    // relationship entity id -> the start and end node entities it is currently indexed against
+    private final LongObjectMap<Object[]> indexedEndpoints;
 
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
+    // maximum number of node entities and of relationship entities to hold, 0 if unbounded
+    private final int capacity;
+
+    private final LeastRecentlyUsed nodeUsage;
+
+    private final LeastRecentlyUsed relationshipEntityUsage;
+
+    // false if only identity is kept, without any state needed to save entities
+    private final boolean tracking;
+
+    // ids of the node entities saved by earlier chunks of a bulk save, null outside of a bulk save
+    private LongSet savedNodeIds;
+
 
     public MappingContext(MetaData metaData) {
+        this(metaData, 0);
+    }
+
+    /**
+     * Creates a mapping context that holds at most the given number of node entities, and of relationship entities.
+     *
+     * @param metaData metadata
+     * @param capacity the capacity, zero or less for an unbounded context
+     */
+    public MappingContext(MetaData metaData, int capacity) {
+        this(metaData, capacity, true);
+    }
+
+    /**
+     * Creates a mapping context, which keeps track of the state of its entities so that they can be saved if tracking
+     * is true, or only registers them by identity otherwise.
+     *
+     * @param metaData metadata
+     * @param capacity the capacity, zero or less for an unbounded context
+     * @param tracking false for a context that only de-duplicates entities, e.g. for read-only sessions
+     */
+    public MappingContext(MetaData metaData, int capacity, boolean tracking) {
         this.metaData = metaData;
+        this.tracking = tracking;
+        this.capacity = Math.max(capacity, 0);
+        this.nodeUsage = new LeastRecentlyUsed();
+        this.relationshipEntityUsage = new LeastRecentlyUsed();
         this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
+        this.nodeEntityRegister = new LongObjectMap<>();
         this.primaryIndexNodeRegister = new HashMap<>();
         this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
+        this.relationshipEntityRegister = new LongObjectMap<>();
         this.primaryIdToRelationship = new HashMap<>();
-        this.relationshipRegister = new HashSet<>();
+        this.relationshipRegister = new MappableRegister<>();
+        this.relationshipEntitiesByEndpoint = new IdentityHashMap<>();
+        this.indexedEndpoints = new LongObjectMap<>();
     }
 
     /**
@@ -77,7 +138,14 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        if (graphId == null) {
+            return null;
+        }
+        Object entity = nodeEntityRegister.get(graphId);
+        if (entity != null && isBounded()) {
+            nodeUsage.touch(graphId);
+        }
+        return entity;
     }
 
     /**
@@ -109,8 +177,14 @@ public class MappingContext {
 
         ClassInfo classInfo = metaData.classInfo(entity);
 
+        if (isBounded()) {
+            nodeUsage.touch(id);
+        }
+
         if (nodeEntityRegister.putIfAbsent(id, entity) == null) {
-            remember(entity);
+            if (tracking) {
+                remember(entity);
+            }
             final FieldInfo primaryIndexField = classInfo.primaryIndexField(); // also need to add the class to key to prevent collisions.
             if (primaryIndexField != null) {
                 final Object primaryIndexValue = primaryIndexField.read(entity);
@@ -142,6 +216,7 @@ public class MappingContext {
         Long id = nativeId(entity);
 
         nodeEntityRegister.remove(id);
+        nodeUsage.remove(id);
         final ClassInfo primaryIndexClassInfo = metaData.classInfo(entity);
         final FieldInfo primaryIndexField = primaryIndexClassInfo.primaryIndexField(); // also need to add the class to key to prevent collisions.
         if (primaryIndexField != null) {
@@ -171,6 +246,8 @@ public class MappingContext {
 
     public void replaceRelationshipEntity(Object entity, Long id) {
         relationshipEntityRegister.remove(id);
+        relationshipEntityUsage.remove(id);
+        unindexRelationshipEntity(id);
         ClassInfo classInfo = metaData.classInfo(entity);
         FieldInfo primaryIndexField = classInfo.primaryIndexField();
         if (primaryIndexField != null) {
@@ -223,6 +300,17 @@ public class MappingContext {
         return !identityMap.remembered(entity, graphId);
     }
 
+    /**
+     * Returns the property fields of the entity whose values changed since it was registered. All property fields are
+     * returned if only the entity as a whole is checked, as for relationship entities, or if it isn't registered.
+     *
+     * @param entity The entity to check
+     * @return the property fields to write to the graph to save the entity
+     */
+    public Collection<FieldInfo> dirtyPropertyFields(Object entity) {
+        return identityMap.changedPropertyFields(entity, nativeId(entity));
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
@@ -231,24 +319,72 @@ public class MappingContext {
         return relationshipRegister;
     }
 
+    MappableRegister<MappedRelationship> relationshipRegister() {
+        return relationshipRegister;
+    }
+
+    /**
+     * @param nodeId native id of a node
+     * @return a new collection of the mapped relationships starting or ending at that node
+     */
+    Collection<MappedRelationship> relationshipsOf(long nodeId) {
+        return relationshipRegister.relationshipsOf(nodeId);
+    }
+
     public void addRelationship(MappedRelationship relationship) {
+        if (!tracking) {
+            return;
+        }
         if (relationship.getRelationshipId() != null && relationshipEntityRegister.get(relationship.getRelationshipId()) == null) {
             relationship.setRelationshipId(null); //We're only interested in id's of relationship entities
         }
         relationshipRegister.add(relationship);
     }
 
+    /**
+     * Creates an empty context to save the next chunk of an untracked bulk save with. The new context regards the node
+     * entities registered in this one, and the ones this one regarded, as saved: they aren't written again, and when
+     * saving to full depth they aren't traversed again either, since everything they reach was saved with them. Only
+     * their ids are carried over, so memory grows by a few bytes per saved node rather than by the saved entities.
+     *
+     * @return the context for the next chunk
+     */
+    public MappingContext nextChunkContext() {
+        MappingContext next = new MappingContext(metaData, capacity, tracking);
+        next.savedNodeIds = savedNodeIds != null ? savedNodeIds : new LongSet();
+        nodeEntityRegister.forEachKey(next.savedNodeIds::add);
+        return next;
+    }
+
+    /**
+     * @return true if the node with the given id was saved by an earlier chunk of the same bulk save
+     */
+    boolean savedByEarlierChunk(Long id) {
+        return savedNodeIds != null && id != null && id >= 0 && savedNodeIds.contains(id);
+    }
+
     public void clear() {
         identityMap.clear();
         relationshipRegister.clear();
+        relationshipEntitiesByEndpoint.clear();
+        indexedEndpoints.clear();
         primaryIdToRelationship.clear();
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
+        nodeUsage.clear();
+        relationshipEntityUsage.clear();
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        if (relationshipId == null) {
+            return null;
+        }
+        Object relationshipEntity = relationshipEntityRegister.get(relationshipId);
+        if (relationshipEntity != null && isBounded()) {
+            relationshipEntityUsage.touch(relationshipId);
+        }
+        return relationshipEntity;
     }
 
     /**
@@ -266,9 +402,15 @@ public class MappingContext {
 
     public Object addRelationshipEntity(Object relationshipEntity, Long id) {
 
+        if (isBounded()) {
+            relationshipEntityUsage.touch(id);
+        }
+
         if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity) == null) {
             relationshipEntity = relationshipEntityRegister.get(id);
-            remember(relationshipEntity);
+            if (tracking) {
+                remember(relationshipEntity);
+            }
 
             ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo primaryIdField = classInfo.primaryIndexField();
@@ -278,6 +420,10 @@ public class MappingContext {
                 primaryIdToNativeId.put(new LabelPrimaryId(classInfo, primaryId), id);
             }
         }
+        if (tracking) {
+            // an already registered relationship entity may have been given other start or end nodes since
+            indexRelationshipEntity(relationshipEntityRegister.get(id), id);
+        }
         return relationshipEntity;
     }
 
@@ -325,7 +471,7 @@ public class MappingContext {
      * purges all information about a relationship entity with this id
      */
     public boolean detachRelationshipEntity(Long id) {
-        Object objectToDetach = relationshipEntityRegister.get(id);
+        Object objectToDetach = getRelationshipEntity(id);
         if (objectToDetach != null) {
             removeEntity(objectToDetach);
             return true;
@@ -372,14 +518,10 @@ public class MappingContext {
         if (id >= 0) {
             if (!metaData.isRelationshipEntity(type.getName())) {
                 if (getNodeEntity(id) != null) {
-                    // todo: this will be very slow for many objects
-                    // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                    for (MappedRelationship mappedRelationship : relationshipRegister) {
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                            Object affectedObject = mappedRelationship.getEndNodeId() == id ? getNodeEntity(mappedRelationship.getStartNodeId()) : getNodeEntity(mappedRelationship.getEndNodeId());
-                            if (affectedObject != null) {
-                                neighbours.add(affectedObject);
-                            }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+                        Object affectedObject = mappedRelationship.getEndNodeId() == id ? getNodeEntity(mappedRelationship.getStartNodeId()) : getNodeEntity(mappedRelationship.getEndNodeId());
+                        if (affectedObject != null) {
+                            neighbours.add(affectedObject);
                         }
                     }
                 }
@@ -401,15 +543,76 @@ public class MappingContext {
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
-            Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+        Set<Long> ids = relationshipEntitiesByEndpoint.remove(startOrEndEntity);
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            Object relationshipEntity = relationshipEntityRegister.get(id);
+            if (relationshipEntity == null) {
+                unindexRelationshipEntity(id);
+                continue;
+            }
             final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
             if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader.read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
+                relationshipEntityRegister.remove(id);
+                relationshipEntityUsage.remove(id);
+                unindexRelationshipEntity(id);
+            } else {
+                // re-pointed elsewhere since it was indexed
+                indexRelationshipEntity(relationshipEntity, id);
+            }
+        }
+    }
+
+    /**
+     * Records a registered relationship entity against its start and end node entities, so the relationship entities
+     * depending on a node entity are found without scanning the register. A relationship entity that is already indexed
+     * against other nodes, e.g. after its end node was changed, is moved to its current ones.
+     */
+    private void indexRelationshipEntity(Object relationshipEntity, Long id) {
+        ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+        Object startNode = classInfo.getStartNodeReader().read(relationshipEntity);
+        Object endNode = classInfo.getEndNodeReader().read(relationshipEntity);
+        Object[] indexed = indexedEndpoints.get(id);
+        if (indexed != null) {
+            if (indexed[0] == startNode && indexed[1] == endNode) {
+                return;
+            }
+            unindexRelationshipEntity(id);
+        }
+        if (startNode != null) {
+            relationshipEntitiesByEndpoint.computeIfAbsent(startNode, k -> new HashSet<>()).add(id);
+        }
+        if (endNode != null) {
+            relationshipEntitiesByEndpoint.computeIfAbsent(endNode, k -> new HashSet<>()).add(id);
+        }
+        indexedEndpoints.put(id, new Object[] { startNode, endNode });
+    }
+
+    /**
+     * Removes a relationship entity from the nodes it was indexed against, which are not necessarily its current start
+     * and end nodes.
+     */
+    private void unindexRelationshipEntity(Long id) {
+        Object[] indexed = indexedEndpoints.remove(id);
+        if (indexed != null) {
+            unindexEndpoint(indexed[0], id);
+            unindexEndpoint(indexed[1], id);
+        }
+    }
+
+    private void unindexEndpoint(Object startOrEndEntity, Long id) {
+        if (startOrEndEntity == null) {
+            return;
+        }
+        Set<Long> ids = relationshipEntitiesByEndpoint.get(startOrEndEntity);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                relationshipEntitiesByEndpoint.remove(startOrEndEntity);
             }
         }
     }
@@ -423,30 +626,30 @@ public class MappingContext {
                 if (getNodeEntity(id) != null) {
                     // remove the object from the node register
                     removeNodeEntity(entity, false);
+                    forget(entity, id);
                     // remove all relationship mappings to/from this object
-                    Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-                    while (mappedRelationshipIterator.hasNext()) {
-                        MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                            // first purge any RE mappings (if its a RE)
-                            if (mappedRelationship.getRelationshipId() != null) {
-                                Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
-                                if (relEntity != null) {
-                                    // TODO : extract the "remove a RelationshipEntity" block below in a method
-                                    // and call it here instead of going recursive ?
-                                    relEntitiesToPurge.add(relEntity);
-                                }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+
+                        // first purge any RE mappings (if its a RE)
+                        if (mappedRelationship.getRelationshipId() != null) {
+                            Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
+                            if (relEntity != null) {
+                                // TODO : extract the "remove a RelationshipEntity" block below in a method
+                                // and call it here instead of going recursive ?
+                                relEntitiesToPurge.add(relEntity);
                             }
-                            // finally remove the mapped relationship
-                            mappedRelationshipIterator.remove();
                         }
+                        // finally remove the mapped relationship
+                        relationshipRegister.remove(mappedRelationship);
                     }
                 }
             } else {
                 // remove a RelationshipEntity
                 if (relationshipEntityRegister.containsKey(id)) {
                     relationshipEntityRegister.remove(id);
+                    relationshipEntityUsage.remove(id);
+                    unindexRelationshipEntity(id);
+                    forget(entity, id);
                     final ClassInfo classInfo = metaData.classInfo(entity);
                     FieldInfo startNodeReader = classInfo.getStartNodeReader();
                     Object startNode = startNodeReader.read(entity);
@@ -467,6 +670,167 @@ public class MappingContext {
         identityMap.remember(entity, nativeId(entity));
     }
 
+    /**
+     * Removes the dirty-check state and the primary id entries of a purged entity. The primary id to native id mapping
+     * is kept for entities without an identity field, as it is the only record of their graph id.
+     */
+    private void forget(Object entity, Long id) {
+        identityMap.forget(entity, id);
+
+        ClassInfo classInfo = metaData.classInfo(entity);
+        FieldInfo primaryIndexField = classInfo.primaryIndexField();
+        if (primaryIndexField != null) {
+            Object primaryIndexValue = primaryIndexField.read(entity);
+            if (primaryIndexValue != null) {
+                LabelPrimaryId key = new LabelPrimaryId(classInfo, primaryIndexValue);
+                primaryIdToRelationship.remove(key);
+                if (classInfo.hasIdentityField()) {
+                    primaryIdToNativeId.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if this context keeps track of the state of its entities, as needed to save them
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * @return true if this context was created with a capacity
+     */
+    public boolean isBounded() {
+        return capacity > 0;
+    }
+
+    /**
+     * When this context is bounded, detaches the least recently used node entities and relationship entities until
+     * no more than the capacity of each is held.
+     * <p>
+     * Eviction never happens implicitly while entities are registered, as mapping a response or compiling a save relies
+     * on everything registered so far; it is triggered once such an operation has completed.
+     */
+    public void evictIfNecessary() {
+        evictIfNecessary(Collections.emptyList());
+    }
+
+    /**
+     * Same as {@link #evictIfNecessary()}, but never evicts the given entities, typically the result of the operation
+     * that has just completed. The context may then hold more entities than its capacity until the next eviction.
+     *
+     * @param retained the entities to keep registered, objects which aren't entities are ignored
+     */
+    public void evictIfNecessary(Iterable<?> retained) {
+        if (!isBounded()) {
+            return;
+        }
+        Set<Long> retainedNodes = new HashSet<>();
+        Set<Long> retainedRelationshipEntities = new HashSet<>();
+        for (Object entity : retained) {
+            ClassInfo classInfo = entity == null ? null : metaData.classInfo(entity);
+            if (classInfo != null) {
+                if (classInfo.isRelationshipEntity()) {
+                    retainedRelationshipEntities.add(nativeId(entity));
+                    // a retained relationship entity is of little use without its start and end nodes
+                    retainEndpoint(classInfo.getStartNodeReader().read(entity), retainedNodes);
+                    retainEndpoint(classInfo.getEndNodeReader().read(entity), retainedNodes);
+                } else {
+                    retainedNodes.add(nativeId(entity));
+                }
+            }
+        }
+        evictIfNecessary(retainedNodes::contains, retainedRelationshipEntities::contains);
+    }
+
+    private void retainEndpoint(Object node, Set<Long> retainedNodes) {
+        if (node != null) {
+            retainedNodes.add(nativeId(node));
+        }
+    }
+
+    /**
+     * Same as {@link #evictIfNecessary(Iterable)}, with the entities to keep given by their native ids.
+     */
+    void evictIfNecessary(LongPredicate retainedNodes, LongPredicate retainedRelationshipEntities) {
+        if (!isBounded()) {
+            return;
+        }
+        List<Long> skipped = new ArrayList<>();
+        while (relationshipEntityRegister.size() > capacity) {
+            Long id = relationshipEntityUsage.eldest();
+            if (id == null) {
+                break;
+            }
+            relationshipEntityUsage.remove(id);
+            if (retainedRelationshipEntities.test(id)) {
+                skipped.add(id);
+                continue;
+            }
+            Object relationshipEntity = relationshipEntityRegister.get(id);
+            if (relationshipEntity != null) {
+                evictRelationshipEntity(relationshipEntity, id);
+            }
+        }
+        skipped.forEach(relationshipEntityUsage::touch);
+
+        skipped.clear();
+        while (nodeEntityRegister.size() > capacity) {
+            Long id = nodeUsage.eldest();
+            if (id == null) {
+                break;
+            }
+            nodeUsage.remove(id);
+            if (retainedNodes.test(id)) {
+                skipped.add(id);
+                continue;
+            }
+            Object entity = nodeEntityRegister.get(id);
+            if (entity != null) {
+                evictNodeEntity(entity, id, retainedRelationshipEntities);
+            }
+        }
+        skipped.forEach(nodeUsage::touch);
+    }
+
+    /**
+     * Removes a node entity and its dirty-check state without cascading to its neighbours. Its mapped relationships to
+     * node entities that are still registered are kept, as they are what a later save of those entities is compared
+     * against to find the relationships to delete. Only the mapped relationships with no registered end left are
+     * dropped, together with their relationship entities unless these are retained.
+     */
+    private void evictNodeEntity(Object entity, Long id, LongPredicate retainedRelationshipEntities) {
+        removeNodeEntity(entity, false);
+        forget(entity, id);
+        for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+            long otherId = mappedRelationship.getStartNodeId() == id ? mappedRelationship.getEndNodeId() : mappedRelationship.getStartNodeId();
+            if (nodeEntityRegister.containsKey(otherId)) {
+                continue;
+            }
+            Long relationshipId = mappedRelationship.getRelationshipId();
+            if (relationshipId != null && retainedRelationshipEntities.test(relationshipId)) {
+                continue;
+            }
+            relationshipRegister.remove(mappedRelationship);
+            Object relationshipEntity = relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
+            if (relationshipEntity != null) {
+                relationshipEntityUsage.remove(relationshipId);
+                evictRelationshipEntity(relationshipEntity, relationshipId);
+            }
+        }
+    }
+
+    /**
+     * Removes a relationship entity and its dirty-check state, without detaching its start and end nodes, whose mapped
+     * relationships still describe the relationship.
+     */
+    private void evictRelationshipEntity(Object relationshipEntity, Long id) {
+        relationshipEntityRegister.remove(id);
+        unindexRelationshipEntity(id);
+        forget(relationshipEntity, id);
+    }
+
     public Long nativeId(Object entity) {
         ClassInfo classInfo = metaData.classInfo(entity);
         generateIdIfNecessary(entity, classInfo);
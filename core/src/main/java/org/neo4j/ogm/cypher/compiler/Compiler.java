@@ -159,4 +159,14 @@ public interface Compiler {
      * @param statementFactory The {@link StatementFactory}
      */
     void useStatementFactory(StatementFactory statementFactory);
+
+    /**
+     * Limit the number of rows of each {@link Statement} this {@link Compiler} produces. Groups of nodes or
+     * relationships with more rows are split over several statements of the same kind. Compilers that can't split
+     * statements ignore the limit.
+     *
+     * @param maxRowsPerStatement the maximum number of rows, 0 for no limit
+     */
+    default void useMaxRowsPerStatement(int maxRowsPerStatement) {
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Set;
 
 import org.neo4j.ogm.compiler.SrcTargetKey;
 import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.context.MappableRegister;
 
 import static java.util.Collections.emptySet;
 
@@ -41,8 +42,12 @@ public class CypherContext implements CompileContext {
     private final Set<Long> visitedRelationshipEntities = new HashSet<>();
 
     private final Map<Long, Object> createdObjectsWithId = new HashMap<>();
-    private final Collection<Mappable> registeredRelationships = new HashSet<>();
-    private final Collection<Mappable> deletedRelationships = new HashSet<>();
+    private final MappableRegister<Mappable> registeredRelationships = new MappableRegister<>();
+    // relationships known to the session, registered as a whole without being copied
+    private MappableRegister<? extends Mappable> knownRelationships = new MappableRegister<>();
+    // known relationships removed from the registered relationships
+    private final Set<Mappable> obsoleteRelationships = new HashSet<>();
+    private final MappableRegister<Mappable> deletedRelationships = new MappableRegister<>();
     private final Map<Long, Long> newNodeIds = new HashMap<>();
 
     private final Collection<Object> log = new HashSet<>();
@@ -64,11 +69,38 @@ public class CypherContext implements CompileContext {
     }
 
     public void registerRelationship(Mappable mappedRelationship) {
-        this.registeredRelationships.add(mappedRelationship);
+        if (knownRelationships.contains(mappedRelationship)) {
+            this.obsoleteRelationships.remove(mappedRelationship);
+        } else {
+            this.registeredRelationships.add(mappedRelationship);
+        }
+    }
+
+    /**
+     * Registers the relationships known to the session, without copying them. Known relationships removed from this
+     * context while compiling, and not registered again, are reported by {@link #getObsoleteRelationships()}.
+     * Registering them again resets the obsolete relationships.
+     *
+     * @param relationships the relationships known to the session, not modified while compiling
+     */
+    public void registerKnownRelationships(MappableRegister<? extends Mappable> relationships) {
+        this.knownRelationships = relationships;
+        this.obsoleteRelationships.clear();
     }
 
     public boolean removeRegisteredRelationship(Mappable mappedRelationship) {
-        return this.registeredRelationships.remove(mappedRelationship);
+        boolean removed = this.registeredRelationships.remove(mappedRelationship);
+        if (knownRelationships.contains(mappedRelationship) && obsoleteRelationships.add(mappedRelationship)) {
+            removed = true;
+        }
+        return removed;
+    }
+
+    /**
+     * @return the known relationships removed from this context while compiling and not registered again
+     */
+    public Collection<Mappable> getObsoleteRelationships() {
+        return obsoleteRelationships;
     }
 
     @Override
@@ -123,26 +155,25 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterOutgoingRelationships(Long src, String relationshipType, Class endNodeType) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
         boolean nothingToDelete = true;
         List<Mappable> cleared = new ArrayList<>();
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
-            if (mappedRelationship.getStartNodeId() == src &&
-                    mappedRelationship.getRelationshipType().equals(relationshipType) &&
+        for (Mappable mappedRelationship : registered(registeredRelationships.outgoing(src), knownRelationships.outgoing(src))) {
+            if (mappedRelationship.getRelationshipType().equals(relationshipType) &&
                     endNodeType.equals(mappedRelationship.getEndNodeType())) {
 
                 cleared.add(mappedRelationship);
-                iterator.remove();
                 nothingToDelete = false;
             }
         }
+        for (Mappable mappedRelationship : cleared) {
+            removeRegisteredRelationship(mappedRelationship);
+        }
         if (nothingToDelete) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
+        Iterator<Mappable> iterator = cleared.iterator();
         while (iterator.hasNext()) {
             Mappable mappedRelationship = iterator.next();
             if (isMappableAlreadyDeleted(mappedRelationship)) {
@@ -172,27 +203,26 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterIncomingRelationships(Long tgt, String relationshipType, Class endNodeType, boolean relationshipEntity) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
         List<Mappable> cleared = new ArrayList<>();
         boolean nothingToDelete = true;
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
-            if (mappedRelationship.getEndNodeId() == tgt &&
-                    mappedRelationship.getRelationshipType().equals(relationshipType) &&
+        for (Mappable mappedRelationship : registered(registeredRelationships.incoming(tgt), knownRelationships.incoming(tgt))) {
+            if (mappedRelationship.getRelationshipType().equals(relationshipType) &&
                     endNodeType.equals(relationshipEntity ? mappedRelationship.getEndNodeType() : mappedRelationship.getStartNodeType())) {
 
                 cleared.add(mappedRelationship);
-                iterator.remove();
                 nothingToDelete = false;
             }
         }
+        for (Mappable mappedRelationship : cleared) {
+            removeRegisteredRelationship(mappedRelationship);
+        }
 
         if (nothingToDelete) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
+        Iterator<Mappable> iterator = cleared.iterator();
         while (iterator.hasNext()) {
             Mappable mappedRelationship = iterator.next();
             if (isMappableAlreadyDeleted(mappedRelationship)) {
@@ -255,10 +285,22 @@ public class CypherContext implements CompileContext {
         }
     }
 
+    /**
+     * @return the given registered relationships, followed by the given known relationships not made obsolete
+     */
+    private List<Mappable> registered(Collection<Mappable> registered, Collection<? extends Mappable> known) {
+        List<Mappable> relationships = new ArrayList<>(registered);
+        for (Mappable relationship : known) {
+            if (!obsoleteRelationships.contains(relationship) && !registered.contains(relationship)) {
+                relationships.add(relationship);
+            }
+        }
+        return relationships;
+    }
+
     private boolean isMappableAlreadyDeleted(Mappable mappedRelationship) {
-        for (Mappable deletedRelationship : deletedRelationships) {
+        for (Mappable deletedRelationship : deletedRelationships.outgoing(mappedRelationship.getStartNodeId())) {
             if (deletedRelationship.getEndNodeId() == mappedRelationship.getEndNodeId() &&
-                    deletedRelationship.getStartNodeId() == mappedRelationship.getStartNodeId() &&
                     deletedRelationship.getRelationshipType().equals(mappedRelationship.getRelationshipType())) {
                 return true;
             }
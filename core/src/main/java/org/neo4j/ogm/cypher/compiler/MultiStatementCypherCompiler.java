@@ -37,7 +37,7 @@ import static java.util.stream.Collectors.groupingBy;
  */
 public class MultiStatementCypherCompiler implements Compiler {
 
-    private final CompileContext context;
+    private final CypherContext context;
     private final List<NodeBuilder> newNodeBuilders;
     private final List<RelationshipBuilder> newRelationshipBuilders;
     private final List<NodeBuilder> existingNodeBuilders;
@@ -45,6 +45,7 @@ public class MultiStatementCypherCompiler implements Compiler {
     private final List<RelationshipBuilder> deletedRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipEntityBuilders;
     private StatementFactory statementFactory;
+    private int maxRowsPerStatement;
 
     public MultiStatementCypherCompiler() {
         this.context = new CypherContext(this);
@@ -112,8 +113,10 @@ public class MultiStatementCypherCompiler implements Compiler {
         Map<String, Set<Node>> newNodesByLabels = groupNodesByLabel(newNodeBuilders);
         List<Statement> statements = new ArrayList<>(newNodesByLabels.size());
         for (Set<Node> nodeModels : newNodesByLabels.values()) {
-            NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(nodeModels, statementFactory);
-            statements.add(newNodeBuilder.build());
+            for (Set<Node> chunk : chunks(nodeModels)) {
+                NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(chunk, statementFactory);
+                statements.add(newNodeBuilder.build());
+            }
         }
 
         return statements;
@@ -147,8 +150,10 @@ public class MultiStatementCypherCompiler implements Compiler {
         for (Map<String, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
             //For each set of unique property keys
             for (Set<Edge> edges : edgesByProperties.values()) {
-                NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges, statementFactory);
-                statements.add(newRelationshipBuilder.build());
+                for (Set<Edge> chunk : chunks(edges)) {
+                    NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(chunk, statementFactory);
+                    statements.add(newRelationshipBuilder.build());
+                }
             }
         }
 
@@ -162,8 +167,10 @@ public class MultiStatementCypherCompiler implements Compiler {
 
         List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
         for (Set<Node> nodeModels : existingNodesByLabels.values()) {
-            ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(nodeModels, statementFactory);
-            statements.add(existingNodeBuilder.build());
+            for (Set<Node> chunk : chunks(nodeModels)) {
+                ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(chunk, statementFactory);
+                statements.add(existingNodeBuilder.build());
+            }
         }
 
         return statements;
@@ -178,8 +185,10 @@ public class MultiStatementCypherCompiler implements Compiler {
             for (RelationshipBuilder relBuilder : existingRelationshipBuilders) {
                 relationships.add(relBuilder.edge());
             }
-            ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(relationships, statementFactory);
-            statements.add(existingRelationshipBuilder.build());
+            for (Set<Edge> chunk : chunks(relationships)) {
+                ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(chunk, statementFactory);
+                statements.add(existingRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -192,8 +201,10 @@ public class MultiStatementCypherCompiler implements Compiler {
         List<Statement> statements = new ArrayList<>();
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
-            DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(edges, statementFactory);
-            statements.add(deletedRelationshipBuilder.build());
+            for (Set<Edge> chunk : chunks(edges)) {
+                DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(chunk, statementFactory);
+                statements.add(deletedRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -208,8 +219,10 @@ public class MultiStatementCypherCompiler implements Compiler {
         List<Statement> statements = new ArrayList<>();
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
-            DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(edges, statementFactory);
-            statements.add(deletedRelationshipBuilder.build());
+            for (Set<Edge> chunk : chunks(edges)) {
+                DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(chunk, statementFactory);
+                statements.add(deletedRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -228,7 +241,7 @@ public class MultiStatementCypherCompiler implements Compiler {
     }
 
     @Override
-    public CompileContext context() {
+    public CypherContext context() {
         return context;
     }
 
@@ -250,6 +263,11 @@ public class MultiStatementCypherCompiler implements Compiler {
         this.statementFactory = statementFactory;
     }
 
+    @Override
+    public void useMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
     private boolean unmap(RelationshipBuilder relationshipBuilder) {
         boolean unmapped = false;
         Iterator<RelationshipBuilder> relIterator = newRelationshipBuilders.iterator();
@@ -280,6 +298,27 @@ public class MultiStatementCypherCompiler implements Compiler {
         }
     }
 
+    /**
+     * Splits a group of nodes or relationships into sets of at most maxRowsPerStatement elements, each becoming the rows
+     * of one statement. Every row still returns its own reference and id, so the results of the split statements can
+     * be mapped back like those of a single one.
+     */
+    private <T> List<Set<T>> chunks(Set<T> elements) {
+        if (maxRowsPerStatement <= 0 || elements.size() <= maxRowsPerStatement) {
+            return Collections.singletonList(elements);
+        }
+        List<Set<T>> chunks = new ArrayList<>(elements.size() / maxRowsPerStatement + 1);
+        Set<T> chunk = null;
+        for (T element : elements) {
+            if (chunk == null || chunk.size() == maxRowsPerStatement) {
+                chunk = new LinkedHashSet<>(maxRowsPerStatement * 4 / 3 + 1);
+                chunks.add(chunk);
+            }
+            chunk.add(element);
+        }
+        return chunks;
+    }
+
     private Map<String, Set<Node>> groupNodesByLabel(List<NodeBuilder> nodeBuilders) {
         return nodeBuilders.stream()
                 .map(NodeBuilder::node)
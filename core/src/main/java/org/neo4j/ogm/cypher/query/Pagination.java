@@ -21,6 +21,11 @@ public class Pagination {
     private final Integer size;
     private Integer offset;
 
+    private final boolean keyset;
+    private final String keyProperty;
+    private final Object lastKey;
+    private Pagination continuation;
+
     public Pagination(int pageNumber, int pageSize) {
 
         if (pageNumber < 0) {
@@ -33,6 +38,52 @@ public class Pagination {
 
         this.index = pageNumber;
         this.size = pageSize;
+        this.keyset = false;
+        this.keyProperty = null;
+        this.lastKey = null;
+    }
+
+    private Pagination(String keyProperty, Object lastKey, int pageSize) {
+
+        if (pageSize < 1) {
+            throw new RuntimeException("Page size must greater then zero");
+        }
+
+        this.index = 0;
+        this.size = pageSize;
+        this.keyset = true;
+        this.keyProperty = keyProperty;
+        this.lastKey = lastKey;
+    }
+
+    /**
+     * Keyset (seek) pagination over the primary index of the loaded entity (the field annotated with @Id), or over the
+     * native graph id when there is none.
+     * <p>
+     * Instead of skipping the rows of all previous pages, each page is selected by a predicate on the key, so the cost
+     * of loading a page does not depend on how deep into the results it is. The first page is returned, use
+     * {@link #getContinuation()} after loading it to obtain the following one.
+     *
+     * @param pageSize the page size
+     * @return pagination for the first page
+     */
+    public static Pagination keyset(int pageSize) {
+        return new Pagination(null, null, pageSize);
+    }
+
+    /**
+     * Keyset (seek) pagination over given property of the loaded entity, see {@link #keyset(int)}.
+     * The property should be unique and indexed, entities without a value for it are not returned.
+     *
+     * @param keyProperty the property to page over
+     * @param pageSize the page size
+     * @return pagination for the first page
+     */
+    public static Pagination keyset(String keyProperty, int pageSize) {
+        if (keyProperty == null) {
+            throw new RuntimeException("Key property must not be null");
+        }
+        return new Pagination(keyProperty, null, pageSize);
     }
 
     /**
@@ -42,13 +93,63 @@ public class Pagination {
      * @param offset the offset
      */
     public void setOffset(Integer offset) {
+        if (keyset) {
+            throw new RuntimeException("Offset is not supported by keyset pagination");
+        }
         if (offset < 0) {
             throw new RuntimeException("Offset must greater then zero");
         }
         this.offset = offset;
     }
 
+    public boolean isKeyset() {
+        return keyset;
+    }
+
+    /**
+     * @return the property paged over by keyset pagination, null when paging over the primary index or native id
+     */
+    public String getKeyProperty() {
+        return keyProperty;
+    }
+
+    /**
+     * @return the key of the last entity of the previous page, null for the first page
+     */
+    public Object getLastKey() {
+        return lastKey;
+    }
+
+    public int getPageSize() {
+        return size;
+    }
+
+    /**
+     * The continuation token of keyset pagination.
+     *
+     * @return pagination selecting the page following the one last loaded with this pagination, or null when there
+     * are no more results (or nothing was loaded yet)
+     */
+    public Pagination getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * Records the key of the last entity loaded with this keyset pagination, null if the page was the last one.
+     *
+     * @param lastKey the key of the last entity of the page
+     */
+    public void continueAfter(Object lastKey) {
+        if (!keyset) {
+            throw new RuntimeException("Only keyset pagination can be continued");
+        }
+        this.continuation = lastKey == null ? null : new Pagination(keyProperty, lastKey, size);
+    }
+
     public String toString() {
+        if (keyset) {
+            return " LIMIT " + size;
+        }
         if (offset != null) {
             return " SKIP " + offset + " LIMIT " + size;
         }
@@ -23,7 +23,10 @@ import java.util.Map;
  */
 public class PagingAndSortingQuery implements PagingAndSorting {
 
+    private static final String KEYSET_PARAMETER = "keysetLastKey";
+
     private Pagination paging;
+    private String keyProperty;
     private SortOrder sortOrder = new SortOrder();
 
     private String statement;
@@ -67,7 +70,15 @@ public class PagingAndSortingQuery implements PagingAndSorting {
             String returnClause = this.returnClause;
 
             sb.append(matchClause);
-            if (!sorting.isEmpty()) {
+            if (paging != null && paging.isKeyset()) {
+                String key = keyProperty == null ? "ID(n)" : "n.`" + keyProperty + "`";
+                if (paging.getLastKey() != null) {
+                    sb.append(" WHERE ").append(key).append(" > { `" + KEYSET_PARAMETER + "` } WITH n");
+                } else if (keyProperty != null) {
+                    sb.append(" WHERE ").append(key).append(" IS NOT NULL WITH n");
+                }
+                sb.append(" ORDER BY ").append(key);
+            } else if (!sorting.isEmpty()) {
                 sb.append(sorting.replace("$", "n"));
             }
             if (paging != null) {
@@ -83,6 +94,9 @@ public class PagingAndSortingQuery implements PagingAndSorting {
 
 
         // only used for relationship entity queries now, remove when relationship entity queries moved to new query building
+        if (paging != null && paging.isKeyset()) {
+            throw new UnsupportedOperationException("Keyset pagination is only supported for node entities");
+        }
 
         String stmt = statement.trim();
         String pagination = paging == null ? "" : page().toString();
@@ -140,6 +154,20 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     @Override
     public PagingAndSortingQuery setPagination(Pagination paging) {
         this.paging = paging;
+        if (paging != null && paging.isKeyset() && paging.getLastKey() != null) {
+            parameters.put(KEYSET_PARAMETER, paging.getLastKey());
+        }
+        return this;
+    }
+
+    /**
+     * Sets the graph property keyset pagination pages over, the native id is used when none is set.
+     *
+     * @param keyProperty name of the property
+     * @return this query
+     */
+    public PagingAndSortingQuery setKeyProperty(String keyProperty) {
+        this.keyProperty = keyProperty;
         return this;
     }
 
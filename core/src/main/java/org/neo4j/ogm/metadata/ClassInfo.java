@@ -27,6 +27,8 @@ import org.neo4j.ogm.exception.MetadataException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.id.InternalIdStrategy;
 import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.metadata.reflect.DirtyCheckPlan;
+import org.neo4j.ogm.metadata.reflect.EntityInstantiator;
 import org.neo4j.ogm.session.Neo4jException;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
@@ -72,7 +74,9 @@ public class ClassInfo {
     private Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
-    private volatile Map<String, FieldInfo> propertyFields;
+    private volatile FieldInfoIndex propertyFields;
+    private volatile FieldInfoIndex propertyFieldsByName;
+    private volatile RelationshipFields relationshipFields;
     private volatile Map<String, FieldInfo> indexFields;
     private volatile LazyInstance<FieldInfo> identityField;
     private volatile FieldInfo primaryIndexField = null;
@@ -80,6 +84,8 @@ public class ClassInfo {
     private volatile boolean labelFieldMapped = false;
     private volatile boolean isPostLoadMethodMapped = false;
     private volatile MethodInfo postLoadMethod;
+    private volatile EntityInstantiator instantiator;
+    private volatile DirtyCheckPlan dirtyCheckPlan;
     private boolean primaryIndexFieldChecked = false;
     private Class<?> cls;
     private Class<? extends IdStrategy> idStrategyClass;
@@ -423,18 +429,15 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required property field, or null if it doesn't exist.
      */
     public FieldInfo propertyField(String propertyName) {
-        if (propertyFields == null) {
-
-            if (propertyFields == null) {
-                Collection<FieldInfo> fieldInfos = propertyFields();
-                propertyFields = new HashMap<>(fieldInfos.size());
-                for (FieldInfo fieldInfo : fieldInfos) {
+        return propertyFieldLookup().first(propertyName);
+    }
 
-                    propertyFields.put(fieldInfo.property().toLowerCase(), fieldInfo);
-                }
-            }
+    private FieldInfoIndex propertyFieldLookup() {
+        FieldInfoIndex lookup = propertyFields;
+        if (lookup == null) {
+            propertyFields = lookup = new FieldInfoIndex(propertyFields(), FieldInfo::property);
         }
-        return propertyFields.get(propertyName.toLowerCase());
+        return lookup;
     }
 
 
@@ -445,12 +448,15 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required property field, or null if it doesn't exist.
      */
     public FieldInfo propertyFieldByName(String propertyName) {
-        for (FieldInfo fieldInfo : propertyFields()) {
-            if (fieldInfo.getName().equalsIgnoreCase(propertyName)) {
-                return fieldInfo;
-            }
+        return propertyFieldByNameLookup().first(propertyName);
+    }
+
+    private FieldInfoIndex propertyFieldByNameLookup() {
+        FieldInfoIndex lookup = propertyFieldsByName;
+        if (lookup == null) {
+            propertyFieldsByName = lookup = new FieldInfoIndex(propertyFields(), FieldInfo::getName);
         }
-        return null;
+        return lookup;
     }
 
     /**
@@ -460,21 +466,29 @@ public class ClassInfo {
      * @return A Collection of FieldInfo objects describing the classInfo's relationship fields
      */
     public Collection<FieldInfo> relationshipFields() {
-        FieldInfo identityField = identityFieldOrNull();
-        Set<FieldInfo> fieldInfos = new HashSet<>();
-        for (FieldInfo fieldInfo : fieldsInfo().fields()) {
-            if (fieldInfo != identityField) {
-                AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class);
-                if (annotationInfo == null) {
-                    if (!fieldInfo.persistableAsProperty()) {
+        return relationshipFieldLookup().fields;
+    }
+
+    private RelationshipFields relationshipFieldLookup() {
+        RelationshipFields lookup = relationshipFields;
+        if (lookup == null) {
+            FieldInfo identityField = identityFieldOrNull();
+            Set<FieldInfo> fieldInfos = new LinkedHashSet<>();
+            for (FieldInfo fieldInfo : fieldsInfo().fields()) {
+                if (fieldInfo != identityField) {
+                    AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class);
+                    if (annotationInfo == null) {
+                        if (!fieldInfo.persistableAsProperty()) {
+                            fieldInfos.add(fieldInfo);
+                        }
+                    } else {
                         fieldInfos.add(fieldInfo);
                     }
-                } else {
-                    fieldInfos.add(fieldInfo);
                 }
             }
+            relationshipFields = lookup = new RelationshipFields(fieldInfos);
         }
-        return fieldInfos;
+        return lookup;
     }
 
     /**
@@ -484,12 +498,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipFieldLookup().byType.first(relationshipName);
     }
 
     /**
@@ -501,16 +510,8 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName, String relationshipDirection, boolean strict) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-                        || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    return fieldInfo;
-                }
-            }
-        }
-        return null;
+        FieldInfoIndex index = relationshipFieldLookup().byTypeAndDirection(relationshipDirection, strict);
+        return index != null ? index.first(relationshipName) : null;
     }
 
     /**
@@ -520,19 +521,11 @@ public class ClassInfo {
      * @param relationshipDirection the direction of the relationship
      * @param strict if true, does not infer relationship type but looks for it in the @Relationship annotation. Null if missing. If false, infers relationship type from FieldInfo
      * @return Set of  FieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
+     * The set is shared and can't be modified.
      */
     public Set<FieldInfo> candidateRelationshipFields(String relationshipName, String relationshipDirection, boolean strict) {
-        Set<FieldInfo> candidateFields = new HashSet<>();
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-                        || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    candidateFields.add(fieldInfo);
-                }
-            }
-        }
-        return candidateFields;
+        FieldInfoIndex index = relationshipFieldLookup().byTypeAndDirection(relationshipDirection, strict);
+        return index != null ? index.all(relationshipName) : Collections.emptySet();
     }
 
     /**
@@ -542,12 +535,17 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipFieldByName(String fieldName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.getName().equalsIgnoreCase(fieldName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipFieldLookup().byName.first(fieldName);
+    }
+
+    /**
+     * Computes the lookup tables of property and relationship fields. Called once all fields of this class and their
+     * converters are known, so that the tables are built before the class is shared between sessions.
+     */
+    void prepareFieldLookups() {
+        relationshipFieldLookup();
+        propertyFieldLookup();
+        propertyFieldByNameLookup();
     }
 
     public Field getField(FieldInfo fieldInfo) {
@@ -730,6 +728,35 @@ public class ClassInfo {
         return cls;
     }
 
+    /**
+     * Returns the {@link EntityInstantiator} used to create new instances of the underlying class.
+     * The instantiator is created on first use and then reused.
+     *
+     * @return the instantiator, never <code>null</code>
+     * @throws MappingException if the underlying class can't be instantiated
+     */
+    public EntityInstantiator getInstantiator() {
+        EntityInstantiator result = instantiator;
+        if (result == null) {
+            instantiator = result = EntityInstantiator.forClass(cls);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link DirtyCheckPlan} used to hash the persistent fields of instances of the underlying class.
+     * The plan is created on first use and then reused by every session.
+     *
+     * @return the plan, never <code>null</code>
+     */
+    public DirtyCheckPlan getDirtyCheckPlan() {
+        DirtyCheckPlan result = dirtyCheckPlan;
+        if (result == null) {
+            dirtyCheckPlan = result = DirtyCheckPlan.of(this);
+        }
+        return result;
+    }
+
     /**
      * Gets the class of the type parameter description of the entity related to this.
      * The match is done based on the following-
@@ -964,5 +991,50 @@ public class ClassInfo {
         }
         return null;
     }
-}
 
+    /**
+     * The relationship fields of a class, indexed by field name, by relationship type, and by relationship type and
+     * direction. Never modified once created, so it can be shared between threads.
+     */
+    private static final class RelationshipFields {
+
+        private final Set<FieldInfo> fields;
+        private final FieldInfoIndex byName;
+        private final FieldInfoIndex byType;
+        private final FieldInfoIndex incomingByAnnotatedType;
+        private final FieldInfoIndex outgoingByAnnotatedType;
+        private final FieldInfoIndex incomingByType;
+        private final FieldInfoIndex outgoingByType;
+
+        RelationshipFields(Set<FieldInfo> fields) {
+            Predicate<FieldInfo> incoming = fieldInfo -> {
+                String direction = fieldInfo.relationshipDirection(Relationship.OUTGOING);
+                return direction.equals(Relationship.INCOMING) || direction.equals(Relationship.UNDIRECTED);
+            };
+            Predicate<FieldInfo> outgoing = fieldInfo -> !fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING);
+
+            this.fields = Collections.unmodifiableSet(fields);
+            this.byName = new FieldInfoIndex(fields, FieldInfo::getName);
+            this.byType = new FieldInfoIndex(fields, FieldInfo::relationship);
+            this.incomingByAnnotatedType = new FieldInfoIndex(fields, FieldInfo::relationshipTypeAnnotation, incoming);
+            this.outgoingByAnnotatedType = new FieldInfoIndex(fields, FieldInfo::relationshipTypeAnnotation, outgoing);
+            this.incomingByType = new FieldInfoIndex(fields, FieldInfo::relationship, incoming);
+            this.outgoingByType = new FieldInfoIndex(fields, FieldInfo::relationship, outgoing);
+        }
+
+        /**
+         * @param direction the direction of the relationship, seen from the class
+         * @param strict    if true, only fields with a type in their @Relationship annotation are indexed
+         * @return the index of the fields by relationship type, null if no field can have this direction
+         */
+        FieldInfoIndex byTypeAndDirection(String direction, boolean strict) {
+            if (Relationship.INCOMING.equals(direction)) {
+                return strict ? incomingByAnnotatedType : incomingByType;
+            }
+            if (Relationship.OUTGOING.equals(direction)) {
+                return strict ? outgoingByAnnotatedType : outgoingByType;
+            }
+            return null;
+        }
+    }
+}
@@ -184,6 +184,7 @@ public class DomainInfo {
 
         for (ClassInfo classInfo : classNameToClassInfo.values()) {
             classInfo.primaryIndexField();
+            classInfo.prepareFieldLookups();
             /*if (classInfo.primaryIndexField() == null && classInfo.identityField() == null &&
                     !classInfo.isInterface()) {
                 throw new MetadataException("No id field found for " + classInfo.name() + " , provide either "
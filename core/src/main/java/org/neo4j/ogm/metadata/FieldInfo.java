@@ -19,6 +19,8 @@ import java.util.Map;
 
 import org.neo4j.ogm.annotation.*;
 import org.neo4j.ogm.exception.MappingException;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
+import org.neo4j.ogm.metadata.reflect.FieldAccessors;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -65,6 +67,10 @@ public class FieldInfo {
     private final ClassInfo containingClassInfo;
     private final Field field;
     private final Class<?> fieldType;
+    /**
+     * Accessor used to read and write the field, created once when the metadata is built.
+     */
+    private final FieldAccessor accessor;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
      */
@@ -87,7 +93,7 @@ public class FieldInfo {
         this.containingClassInfo = classInfo;
         this.field = field;
         this.fieldType = field.getType();
-        field.getModifiers();
+        this.accessor = FieldAccessors.forField(field);
         this.isArray = field.getType().isArray();
         this.name = field.getName();
         this.descriptor = field.getType().getTypeName();
@@ -380,13 +386,13 @@ public class FieldInfo {
 
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
+            accessor.write(instance, value);
         } else {
             if (isScalar()) {
                 String descriptor = getTypeDescriptor();
                 value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
             }
-            write(field, instance, value);
+            accessor.write(instance, value);
         }
     }
 
@@ -397,7 +403,7 @@ public class FieldInfo {
      * @param value field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        accessor.write(instance, value);
     }
 
     public Class<?> type() {
@@ -421,7 +427,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), instance);
+        return accessor.read(instance);
     }
 
     public Object readProperty(Object instance) {
@@ -429,7 +435,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                     "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor.read(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -441,7 +447,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                     "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor.read(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
@@ -476,6 +482,13 @@ public class FieldInfo {
         return field;
     }
 
+    /**
+     * @return the {@link FieldAccessor} used to read and write this field
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
     /**
      * ClassInfo for the class this field is defined in
      *
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable index of fields by a key that is compared ignoring case, e.g. a relationship type or a field name.
+ * <p>
+ * A key is first looked up as given, which does not allocate and finds the fields whenever the key is spelled like one
+ * of them, and only then converted to lower case. For keys matching several fields, the fields are kept in the order
+ * they were indexed.
+ */
+final class FieldInfoIndex {
+
+    private final Map<String, Set<FieldInfo>> fieldsByKey;
+    private final Map<String, Set<FieldInfo>> fieldsByLowerCaseKey;
+
+    /**
+     * @param fieldInfos the fields to index
+     * @param key        the key of a field, fields with a null key are not indexed
+     * @param filter     the fields to index
+     */
+    FieldInfoIndex(Collection<FieldInfo> fieldInfos, Function<FieldInfo, String> key, Predicate<FieldInfo> filter) {
+        Map<String, Set<FieldInfo>> fieldsByLowerCaseKey = new HashMap<>();
+        Map<String, Set<FieldInfo>> fieldsByKey = new HashMap<>();
+        for (FieldInfo fieldInfo : fieldInfos) {
+            String fieldKey = key.apply(fieldInfo);
+            if (fieldKey != null && filter.test(fieldInfo)) {
+                Set<FieldInfo> fields = fieldsByLowerCaseKey.computeIfAbsent(fieldKey.toLowerCase(), k -> new LinkedHashSet<>());
+                fields.add(fieldInfo);
+                fieldsByKey.put(fieldKey, fields);
+            }
+        }
+        for (Map.Entry<String, Set<FieldInfo>> entry : fieldsByLowerCaseKey.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        for (Map.Entry<String, Set<FieldInfo>> entry : fieldsByKey.entrySet()) {
+            entry.setValue(fieldsByLowerCaseKey.get(entry.getKey().toLowerCase()));
+        }
+        this.fieldsByKey = fieldsByKey;
+        this.fieldsByLowerCaseKey = fieldsByLowerCaseKey;
+    }
+
+    FieldInfoIndex(Collection<FieldInfo> fieldInfos, Function<FieldInfo, String> key) {
+        this(fieldInfos, key, fieldInfo -> true);
+    }
+
+    /**
+     * @param key the key, compared ignoring case
+     * @return the fields with this key, empty if there are none
+     */
+    Set<FieldInfo> all(String key) {
+        if (key == null) {
+            return Collections.emptySet();
+        }
+        Set<FieldInfo> fields = fieldsByKey.get(key);
+        if (fields == null) {
+            fields = fieldsByLowerCaseKey.get(key.toLowerCase());
+        }
+        return fields != null ? fields : Collections.emptySet();
+    }
+
+    /**
+     * @param key the key, compared ignoring case
+     * @return the first field indexed with this key, null if there is none
+     */
+    FieldInfo first(String key) {
+        Set<FieldInfo> fields = all(key);
+        return fields.isEmpty() ? null : fields.iterator().next();
+    }
+}
@@ -19,6 +19,7 @@ import java.util.*;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.exception.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.MappingException;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.typeconversion.ConversionCallback;
@@ -36,11 +37,42 @@ public class MetaData {
 
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+
+    // immutable indexes built once at construction, shared by all sessions without any locking
+    private final Map<String, ClassInfo> labelIndex;
+    private final Map<String, List<ClassInfo>> typeIndex;
+    private final Map<String, ClassInfo> classNameIndex;
+    private final Set<String> ambiguousClassNames;
+    private final Map<String, ClassInfo> classInfoIndex;
+    private final Map<String, ClassInfo> concreteClassIndex;
 
     public MetaData(String... packages) {
         domainInfo = DomainInfo.create(packages);
         schema = new DomainInfoSchemaBuilder(domainInfo).build();
+
+        labelIndex = Collections.unmodifiableMap(indexByAnnotatedName(NodeEntity.class.getName(), "label"));
+        typeIndex = Collections.unmodifiableMap(indexAllByAnnotatedName(RelationshipEntity.class.getName(), "type"));
+
+        Set<String> ambiguous = new HashSet<>();
+        classNameIndex = Collections.unmodifiableMap(indexByClassName(ambiguous));
+
+        // a label takes precedence over a relationship type, which takes precedence over a class name
+        Map<String, ClassInfo> classInfos = new HashMap<>(classNameIndex);
+        for (Map.Entry<String, List<ClassInfo>> entry : typeIndex.entrySet()) {
+            classInfos.put(entry.getKey(), entry.getValue().get(0));
+        }
+        classInfos.putAll(labelIndex);
+        ambiguousClassNames = Collections.unmodifiableSet(ambiguous);
+        classInfoIndex = Collections.unmodifiableMap(classInfos);
+
+        Map<String, ClassInfo> concreteClasses = new HashMap<>();
+        for (Map.Entry<String, ClassInfo> entry : classInfoIndex.entrySet()) {
+            ClassInfo concreteClass = concreteClass(entry.getKey(), entry.getValue());
+            if (concreteClass != null) {
+                concreteClasses.put(entry.getKey(), concreteClass);
+            }
+        }
+        concreteClassIndex = Collections.unmodifiableMap(concreteClasses);
     }
 
     public Schema getSchema() {
@@ -55,31 +87,11 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
-        }
-
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
+        ClassInfo classInfo = classInfoIndex.get(name);
+        if (classInfo == null) {
+            checkUnambiguous(name);
         }
-
-        // not found
-        classInfos.put(name, null);
-        return null;
+        return classInfo;
     }
 
 
@@ -93,33 +105,80 @@ public class MetaData {
         return classInfo(object.getClass().getName());
     }
 
-    private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get(annotationPropertyName, labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    return labelledClass;
-                }
+    private void checkUnambiguous(String name) {
+        if (ambiguousClassNames.contains(name)) {
+            throw new MappingException("More than one class has simple name: " + name);
+        }
+    }
+
+    private Map<String, ClassInfo> indexByAnnotatedName(String annotation, String annotationPropertyName) {
+        Map<String, ClassInfo> index = new HashMap<>();
+        List<ClassInfo> annotatedClasses = domainInfo.getClassInfosWithAnnotation(annotation);
+        if (annotatedClasses != null) {
+            for (ClassInfo annotatedClass : annotatedClasses) {
+                AnnotationInfo annotationInfo = annotatedClass.annotationsInfo().get(annotation);
+                index.putIfAbsent(annotationInfo.get(annotationPropertyName, annotatedClass.neo4jName()), annotatedClass);
             }
         }
-        return null;
+        return index;
     }
 
-    private Set<ClassInfo> _classInfos(String name, String nodeEntityAnnotation) {
-        Set<ClassInfo> classInfos = new HashSet<>();
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get("type", labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    classInfos.add(labelledClass);
-                }
+    private Map<String, List<ClassInfo>> indexAllByAnnotatedName(String annotation, String annotationPropertyName) {
+        Map<String, List<ClassInfo>> index = new HashMap<>();
+        List<ClassInfo> annotatedClasses = domainInfo.getClassInfosWithAnnotation(annotation);
+        if (annotatedClasses != null) {
+            for (ClassInfo annotatedClass : annotatedClasses) {
+                AnnotationInfo annotationInfo = annotatedClass.annotationsInfo().get(annotation);
+                index.computeIfAbsent(annotationInfo.get(annotationPropertyName, annotatedClass.neo4jName()), k -> new ArrayList<>())
+                    .add(annotatedClass);
             }
         }
-        return classInfos;
+        for (Map.Entry<String, List<ClassInfo>> entry : index.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return index;
+    }
+
+    /**
+     * Indexes every class by its fully qualified name and by each of its partial names (simple name, simple name
+     * qualified by the enclosing packages). Partial names shared by several classes are collected in ambiguous.
+     */
+    private Map<String, ClassInfo> indexByClassName(Set<String> ambiguous) {
+        Map<String, ClassInfo> index = new HashMap<>();
+        for (Map.Entry<String, ClassInfo> entry : domainInfo.getClassInfoMap().entrySet()) {
+            String className = entry.getKey();
+            for (int i = className.length(); (i = className.lastIndexOf('.', i - 1)) >= 0; ) {
+                indexClassName(index, ambiguous, className.substring(i + 1), entry.getValue());
+            }
+            indexClassName(index, ambiguous, className, entry.getValue());
+        }
+        index.keySet().removeAll(ambiguous);
+        return index;
+    }
+
+    private void indexClassName(Map<String, ClassInfo> index, Set<String> ambiguous, String name, ClassInfo classInfo) {
+        ClassInfo previous = index.putIfAbsent(name, classInfo);
+        if (previous != null && previous != classInfo) {
+            ambiguous.add(name);
+        }
+    }
+
+    /**
+     * Resolves the concrete class a taxon stands for. Interfaces must have a single implementing class and abstract
+     * classes a single concrete subclass, otherwise the taxon cannot be resolved.
+     */
+    private ClassInfo concreteClass(String taxon, ClassInfo taxonClassInfo) {
+        try {
+            if (taxonClassInfo.isInterface()) {
+                return findSingleImplementor(taxon);
+            } else if (taxonClassInfo.isAbstract()) {
+                return findFirstSingleConcreteClass(taxonClassInfo, taxonClassInfo.directSubclasses());
+            }
+            return taxonClassInfo;
+        } catch (MappingException e) {
+            LOGGER.debug("Taxon {} cannot be resolved to a single concrete class: {}", taxon, e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -131,69 +190,33 @@ public class MetaData {
      */
     public ClassInfo resolve(String... taxa) {
 
-        if (taxa.length > 0) {
-
-            Set<ClassInfo> resolved = new HashSet<>();
-
-            for (String taxon : taxa) {
-                LOGGER.debug("looking for concrete class to resolve label: {}", taxon);
-                ClassInfo taxonClassInfo = classInfo(taxon);
-
-                // ignore any foreign labels
-                if (taxonClassInfo == null) {
-                    LOGGER.debug("This label is not known in the mapping context. Moving on...");
-                    continue;
-                }
-
-                // if classInfo is an interface or abstract there must be a single concrete implementing class/subclass
-                // if there is, use that, otherwise this label cannot be resolved
-                if (taxonClassInfo.isInterface()) {
-                    LOGGER.debug("label is on an interface. Looking for a single implementing class...");
-                    taxonClassInfo = findSingleImplementor(taxon);
-                } else if (taxonClassInfo.isAbstract()) {
-                    LOGGER.debug("label is on an abstract class. Looking for a single concrete subclass...");
-                    taxonClassInfo = findFirstSingleConcreteClass(taxonClassInfo, taxonClassInfo.directSubclasses());
-                }
-
-                // given we have a qualifying concrete class, check if its a subclass or superclass of one found previously
-                // if its a superclass, we discard it.
-                // if its a subclass, we replace the previously found class with this one.
-                if (taxonClassInfo != null) {
-                    LOGGER.debug("concrete class found: {}. comparing with what's already been found previously...", taxonClassInfo);
-                    for (ClassInfo found : resolved) {
-                        if (taxonClassInfo.isSubclassOf(found)) {
-                            LOGGER.debug("{} is a subclass of {} and will replace it.", taxonClassInfo, found);
-                            resolved.remove(found);
-                            break; // there will only be one
-                        }
-                        if (found.isSubclassOf(taxonClassInfo)) {
-                            LOGGER.debug("{} is a superclass of {} and will be ignored", taxonClassInfo, found);
-                            taxonClassInfo = null;  // discard it
-                            break; // no need to look further, already discarded
-                        }
-                    }
-                } else {
-                    LOGGER.debug("no implementing class or concrete subclass found!");
-                }
-
-                // finally, we can add the taxonClassInfo - if it is still valid
-                if (taxonClassInfo != null) {
-                    LOGGER.debug("{} resolving class: {}", taxon, taxonClassInfo);
-                    resolved.add(taxonClassInfo);
-                }
-            }
-            if (resolved.size() > 1) {
-                // Sort so we always get the same order
-                String[] sorted = Arrays.copyOf(taxa, taxa.length);
-                Arrays.sort(sorted);
-                throw new AmbiguousBaseClassException(Arrays.toString(sorted));
+        ClassInfo resolved = null;
+        boolean ambiguous = false;
+
+        for (String taxon : taxa) {
+            // ignore any foreign labels and those without a single concrete class
+            ClassInfo taxonClassInfo = concreteClassIndex.get(taxon);
+            if (taxonClassInfo == null) {
+                checkUnambiguous(taxon);
+                continue;
             }
-            if (resolved.iterator().hasNext()) {
-                return resolved.iterator().next();
+
+            // given we have a qualifying concrete class, check if its a subclass or superclass of one found previously
+            // if its a superclass, we discard it.
+            // if its a subclass, it replaces the previously found class.
+            if (resolved == null || taxonClassInfo.isSubclassOf(resolved)) {
+                resolved = taxonClassInfo;
+            } else if (!resolved.isSubclassOf(taxonClassInfo)) {
+                ambiguous = true;
             }
         }
-        LOGGER.debug("No resolving class found!!");
-        return null;
+        if (ambiguous) {
+            // Sort so we always get the same order
+            String[] sorted = Arrays.copyOf(taxa, taxa.length);
+            Arrays.sort(sorted);
+            throw new AmbiguousBaseClassException(Arrays.toString(sorted));
+        }
+        return resolved;
     }
 
     /**
@@ -206,17 +229,16 @@ public class MetaData {
 
         Set<ClassInfo> classInfos = new HashSet<>();
 
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        ClassInfo classInfo = labelIndex.get(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
         }
 
         //Potentially many relationship entities annotated with the same type
-        for (ClassInfo info : _classInfos(name, RelationshipEntity.class.getName())) {
-            classInfos.add(info);
-        }
+        classInfos.addAll(typeIndex.getOrDefault(name, Collections.emptyList()));
 
-        classInfo = domainInfo.getClassSimpleName(name);
+        checkUnambiguous(name);
+        classInfo = classNameIndex.get(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
         }
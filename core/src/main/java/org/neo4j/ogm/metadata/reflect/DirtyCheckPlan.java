@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * Immutable plan used by the mapping context to compute the dirty-check hash of entities of a single class.
+ * <p>
+ * The plan is built once per {@link ClassInfo}, see {@link ClassInfo#getDirtyCheckPlan()}, and shared by all the
+ * sessions of a session factory. It holds one typed hash function per persistent property (and the
+ * labels field, if present), chosen from the declared type of the field:
+ * <ul>
+ * <li>primitive fields are read without boxing</li>
+ * <li>strings are hashed character by character into 64 bits</li>
+ * <li>arrays, including primitive arrays, are hashed in place</li>
+ * <li>fields with an attribute converter are hashed on their converted, graph-side value</li>
+ * </ul>
+ * The hash of each field can also be computed on its own, so that node entities can be checked field by field and only
+ * their changed properties written back.
+ */
+public final class DirtyCheckPlan {
+
+    // objects with no properties will always hash to this value.
+    private static final long SEED = 0xDEADBEEF / (11 * 257);
+
+    private final FieldHash[] fieldHashes;
+
+    // the property fields, in the same order as their hash functions, which come first in fieldHashes
+    private final FieldInfo[] propertyFields;
+
+    private DirtyCheckPlan(FieldHash[] fieldHashes, FieldInfo[] propertyFields) {
+        this.fieldHashes = fieldHashes;
+        this.propertyFields = propertyFields;
+    }
+
+    public static DirtyCheckPlan of(ClassInfo classInfo) {
+        List<FieldHash> fieldHashes = new ArrayList<>();
+        List<FieldInfo> propertyFields = new ArrayList<>(classInfo.propertyFields());
+        for (FieldInfo fieldInfo : propertyFields) {
+            fieldHashes.add(fieldHash(fieldInfo));
+        }
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+        if (labelField != null) {
+            fieldHashes.add(fieldHash(labelField));
+        }
+        return new DirtyCheckPlan(fieldHashes.toArray(new FieldHash[fieldHashes.size()]),
+                propertyFields.toArray(new FieldInfo[propertyFields.size()]));
+    }
+
+    public long hash(Object entity) {
+        long hash = SEED;
+        for (FieldHash fieldHash : fieldHashes) {
+            hash = fieldHash.hash(hash, entity);
+        }
+        return hash;
+    }
+
+    /**
+     * @return the hash of each field of the entity, property fields first and then the labels field, if present
+     */
+    public long[] fieldHashes(Object entity) {
+        long[] hashes = new long[fieldHashes.length];
+        for (int i = 0; i < fieldHashes.length; i++) {
+            hashes[i] = fieldHashes[i].hash(SEED, entity);
+        }
+        return hashes;
+    }
+
+    /**
+     * @return true if the fields of the entity still have the given hashes
+     */
+    public boolean matches(Object entity, long[] expected) {
+        for (int i = 0; i < fieldHashes.length; i++) {
+            if (fieldHashes[i].hash(SEED, entity) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the property fields of the entity whose hashes differ from the given ones
+     */
+    public List<FieldInfo> changedPropertyFields(Object entity, long[] expected) {
+        List<FieldInfo> changed = new ArrayList<>();
+        for (int i = 0; i < propertyFields.length; i++) {
+            if (fieldHashes[i].hash(SEED, entity) != expected[i]) {
+                changed.add(propertyFields[i]);
+            }
+        }
+        return changed;
+    }
+
+    private static FieldHash fieldHash(FieldInfo fieldInfo) {
+        FieldAccessor accessor = fieldInfo.getAccessor();
+
+        if (fieldInfo.hasPropertyConverter()) {
+            return (hash, entity) -> {
+                Object value = accessor.read(entity);
+                return value == null ? hash : hash * 31L + hashValue(fieldInfo.getPropertyConverter().toGraphProperty(value));
+            };
+        }
+
+        switch (accessor.primitiveKind()) {
+            case BOOLEAN:
+                return (hash, entity) -> hash * 31L + (accessor.readBoolean(entity) ? 1231 : 1237);
+            case INT:
+                return (hash, entity) -> hash * 31L + accessor.readInt(entity);
+            case LONG:
+                return (hash, entity) -> hash * 31L + accessor.readLong(entity);
+            case DOUBLE:
+                return (hash, entity) -> hash * 31L + Double.doubleToLongBits(accessor.readDouble(entity));
+            default:
+        }
+
+        if (fieldInfo.getField().getType() == String.class) {
+            return (hash, entity) -> {
+                String value = (String) accessor.read(entity);
+                return value == null ? hash : hash * 31L + hashString(value);
+            };
+        }
+
+        return (hash, entity) -> {
+            Object value = accessor.read(entity);
+            return value == null ? hash : hash * 31L + hashValue(value);
+        };
+    }
+
+    private static long hashValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return hashString((String) value);
+        }
+        if (value.getClass().isArray()) {
+            return hashArray(value);
+        }
+        if (value instanceof Iterable || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum || value instanceof Map) {
+            return value.hashCode();
+        }
+        return hashString(value.toString());
+    }
+
+    private static long hashArray(Object array) {
+        if (array instanceof Object[]) {
+            return Arrays.hashCode((Object[]) array);
+        }
+        if (array instanceof long[]) {
+            return Arrays.hashCode((long[]) array);
+        }
+        if (array instanceof int[]) {
+            return Arrays.hashCode((int[]) array);
+        }
+        if (array instanceof double[]) {
+            return Arrays.hashCode((double[]) array);
+        }
+        if (array instanceof byte[]) {
+            return Arrays.hashCode((byte[]) array);
+        }
+        if (array instanceof char[]) {
+            return Arrays.hashCode((char[]) array);
+        }
+        if (array instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) array);
+        }
+        if (array instanceof float[]) {
+            return Arrays.hashCode((float[]) array);
+        }
+        return Arrays.hashCode((short[]) array);
+    }
+
+    private static long hashString(String string) {
+        long h = 1125899906842597L; // prime
+        int len = string.length();
+
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + string.charAt(i);
+        }
+        return h;
+    }
+
+    @FunctionalInterface
+    private interface FieldHash {
+
+        long hash(long hash, Object entity);
+    }
+}
@@ -12,7 +12,6 @@
 package org.neo4j.ogm.metadata.reflect;
 
 
-import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,7 +30,17 @@ import org.neo4j.ogm.model.Node;
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    private final Map<Taxa, ClassInfo> taxaLeafClass = new HashMap<>();
+
+    /**
+     * Reusable key, so that looking up an already resolved set of taxa doesn't allocate
+     */
+    private final Taxa lookupKey = new Taxa();
+
+    /**
+     * Instantiators for classes that are not part of the domain, e.g. query result classes
+     */
+    private final Map<Class<?>, EntityInstantiator> nonDomainInstantiators = new HashMap<>();
 
     private final MetaData metadata;
 
@@ -79,7 +88,7 @@ public class EntityFactory {
      * @throws MappingException if it's not possible to resolve or instantiate a class from the given argument
      */
     public <T> T newObject(ClassInfo classInfo) {
-        return (T) instantiate(classInfo.getUnderlyingClass());
+        return classInfo.getInstantiator().newInstance();
     }
 
     /**
@@ -91,47 +100,58 @@ public class EntityFactory {
      * @throws MappingException if it's not possible to instantiate the given class for any reason
      */
     public <T> T newObject(Class<T> clarse) {
-        return instantiate(clarse);
+        ClassInfo classInfo = metadata.classInfo(clarse.getName());
+        if (classInfo != null && classInfo.getUnderlyingClass() == clarse) {
+            return classInfo.getInstantiator().newInstance();
+        }
+        return nonDomainInstantiators.computeIfAbsent(clarse, EntityInstantiator::forClass).newInstance();
     }
 
     private <T> T instantiateObjectFromTaxa(String... taxa) {
         if (taxa == null || taxa.length == 0) {
             throw new BaseClassNotFoundException("<null>");
         }
-
-        String fqn = resolve(taxa);
-
-        try {
-            @SuppressWarnings("unchecked")
-            Class<T> loadedClass = (Class<T>) Class.forName(fqn, false, Thread.currentThread().getContextClassLoader());
-            return instantiate(loadedClass);
-        } catch (ClassNotFoundException e) {
-            throw new MappingException("Unable to load class with FQN: " + fqn, e);
-        }
+        return resolve(taxa).getInstantiator().newInstance();
     }
 
-    private String resolve(String... taxa) {
+    private ClassInfo resolve(String... taxa) {
 
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
+        ClassInfo classInfo = taxaLeafClass.get(lookupKey.set(taxa));
+        lookupKey.set(null);
 
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            classInfo = metadata.resolve(taxa);
             if (classInfo != null) {
-                taxaLeafClass.put(Arrays.toString(taxa), fqn = classInfo.name());
+                taxaLeafClass.put(new Taxa().set(taxa.clone()), classInfo);
             } else {
                 throw new BaseClassNotFoundException(Arrays.toString(taxa));
             }
         }
-        return fqn;
+        return classInfo;
     }
 
-    private static <T> T instantiate(Class<T> loadedClass) {
-        try {
-            Constructor<T> defaultConstructor = loadedClass.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            return defaultConstructor.newInstance();
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
-            throw new MappingException("Unable to instantiate " + loadedClass, e);
+    /**
+     * Ordered set of labels or a relationship type used as the key of the resolved class cache.
+     */
+    private static class Taxa {
+
+        private String[] taxa;
+        private int hash;
+
+        Taxa set(String[] taxa) {
+            this.taxa = taxa;
+            this.hash = Arrays.hashCode(taxa);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Taxa && Arrays.equals(taxa, ((Taxa) o).taxa));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 }
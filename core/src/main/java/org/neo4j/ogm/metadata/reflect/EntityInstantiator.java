@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import org.neo4j.ogm.exception.MappingException;
+
+/**
+ * Creates new instances of an entity class through its zero-argument constructor.
+ * <p>
+ * The constructor is looked up and made accessible once, when the instantiator is created, and is then invoked through
+ * a {@link MethodHandle}. Instantiators are cached per {@link org.neo4j.ogm.metadata.ClassInfo}.
+ */
+public class EntityInstantiator {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+
+    private EntityInstantiator(Class<?> type, MethodHandle constructor) {
+        this.type = type;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates an instantiator for the given class.
+     *
+     * @param type the class to instantiate
+     * @return an {@link EntityInstantiator}, never <code>null</code>
+     * @throws MappingException if the class has no usable zero-argument constructor
+     */
+    public static EntityInstantiator forClass(Class<?> type) {
+        try {
+            Constructor<?> defaultConstructor = type.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
+            return new EntityInstantiator(type, handle);
+        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
+            throw new MappingException("Unable to instantiate " + type, e);
+        }
+    }
+
+    /**
+     * @param <T> The class of object to return
+     * @return a new instance of the class this instantiator was created for
+     * @throws MappingException if the constructor throws
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() {
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Exception e) {
+            throw new MappingException("Unable to instantiate " + type, e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new MappingException("Unable to instantiate " + type, new RuntimeException(t));
+        }
+    }
+}
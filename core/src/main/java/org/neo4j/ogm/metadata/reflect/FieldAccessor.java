@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+/**
+ * Reads and writes the value of a single field of an entity.
+ * <p>
+ * An accessor is created once per {@link org.neo4j.ogm.metadata.FieldInfo} when the metadata is built, so any costly
+ * preparation (access checks, handle lookup) is paid only once. The primitive read methods allow callers that only
+ * need the raw value (e.g. for hashing) to avoid boxing; they may only be called when the underlying field is of a
+ * compatible primitive type (see {@link #primitiveKind()}).
+ */
+public interface FieldAccessor {
+
+    /**
+     * Kind of the primitive value held by a field, used to select a specialised, non-boxing read method.
+     */
+    enum PrimitiveKind {
+        /**
+         * The field is not of a primitive type
+         */
+        NONE,
+        /**
+         * boolean, read with {@link FieldAccessor#readBoolean(Object)}
+         */
+        BOOLEAN,
+        /**
+         * byte, short, char or int, read with {@link FieldAccessor#readInt(Object)}
+         */
+        INT,
+        /**
+         * long, read with {@link FieldAccessor#readLong(Object)}
+         */
+        LONG,
+        /**
+         * float or double, read with {@link FieldAccessor#readDouble(Object)}
+         */
+        DOUBLE;
+
+        public static PrimitiveKind of(Class<?> type) {
+            if (type == boolean.class) {
+                return BOOLEAN;
+            }
+            if (type == byte.class || type == short.class || type == char.class || type == int.class) {
+                return INT;
+            }
+            if (type == long.class) {
+                return LONG;
+            }
+            if (type == float.class || type == double.class) {
+                return DOUBLE;
+            }
+            return NONE;
+        }
+    }
+
+    Object read(Object instance);
+
+    void write(Object instance, Object value);
+
+    PrimitiveKind primitiveKind();
+
+    boolean readBoolean(Object instance);
+
+    int readInt(Object instance);
+
+    long readLong(Object instance);
+
+    double readDouble(Object instance);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.reflect.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link FieldAccessor}s. {@link MethodHandleFieldAccessor} is preferred; when the field can't be made
+ * accessible up front (e.g. because of a security manager) a {@link ReflectiveFieldAccessor} is returned, which
+ * reports any access problem at the time the field is actually read or written, as before.
+ */
+public final class FieldAccessors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldAccessors.class);
+
+    private FieldAccessors() {
+    }
+
+    public static FieldAccessor forField(Field field) {
+        try {
+            return new MethodHandleFieldAccessor(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Could not create method handles for field {}, falling back to reflection", field, e);
+            return new ReflectiveFieldAccessor(field);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by {@link MethodHandle}s that are looked up once, when the accessor is created.
+ * <p>
+ * Handles are adapted to erased signatures so that they can be invoked with {@code invokeExact}. For primitive fields an
+ * additional getter returning the (widened) primitive value is prepared, so the value can be read without boxing.
+ */
+public class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final PrimitiveKind primitiveKind;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+
+    /**
+     * @param field the field to access
+     * @throws IllegalAccessException if the field can't be made accessible
+     */
+    public MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+        this.field = field;
+        this.primitiveKind = PrimitiveKind.of(field.getType());
+
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle rawGetter = lookup.unreflectGetter(field);
+        this.getter = rawGetter.asType(GETTER_TYPE);
+        this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+
+        switch (primitiveKind) {
+            case BOOLEAN:
+                this.primitiveGetter = rawGetter.asType(MethodType.methodType(boolean.class, Object.class));
+                break;
+            case INT:
+                this.primitiveGetter = rawGetter.asType(MethodType.methodType(int.class, Object.class));
+                break;
+            case LONG:
+                this.primitiveGetter = rawGetter.asType(MethodType.methodType(long.class, Object.class));
+                break;
+            case DOUBLE:
+                this.primitiveGetter = rawGetter.asType(MethodType.methodType(double.class, Object.class));
+                break;
+            default:
+                this.primitiveGetter = null;
+        }
+    }
+
+    @Override
+    public Object read(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void write(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public PrimitiveKind primitiveKind() {
+        return primitiveKind;
+    }
+
+    @Override
+    public boolean readBoolean(Object instance) {
+        checkKind(PrimitiveKind.BOOLEAN);
+        try {
+            return (boolean) primitiveGetter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int readInt(Object instance) {
+        checkKind(PrimitiveKind.INT);
+        try {
+            return (int) primitiveGetter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public long readLong(Object instance) {
+        checkKind(PrimitiveKind.LONG);
+        try {
+            return (long) primitiveGetter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public double readDouble(Object instance) {
+        checkKind(PrimitiveKind.DOUBLE);
+        try {
+            return (double) primitiveGetter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private void checkKind(PrimitiveKind expected) {
+        if (primitiveKind != expected) {
+            throw new IllegalStateException("Field " + field.getName() + " of type " + field.getType().getName()
+                + " can't be read as " + expected);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new RuntimeException(t);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} using plain {@link Field} reflection. Used as a fallback when a {@link MethodHandleFieldAccessor}
+ * can't be created for a field.
+ */
+public class ReflectiveFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+    private final PrimitiveKind primitiveKind;
+
+    public ReflectiveFieldAccessor(Field field) {
+        this.field = field;
+        this.primitiveKind = PrimitiveKind.of(field.getType());
+    }
+
+    @Override
+    public Object read(Object instance) {
+        try {
+            field.setAccessible(true);
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void write(Object instance, Object value) {
+        try {
+            field.setAccessible(true);
+            field.set(instance, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public PrimitiveKind primitiveKind() {
+        return primitiveKind;
+    }
+
+    @Override
+    public boolean readBoolean(Object instance) {
+        return (Boolean) read(instance);
+    }
+
+    @Override
+    public int readInt(Object instance) {
+        Object value = read(instance);
+        return value instanceof Character ? (Character) value : ((Number) value).intValue();
+    }
+
+    @Override
+    public long readLong(Object instance) {
+        return ((Number) read(instance)).longValue();
+    }
+
+    @Override
+    public double readDouble(Object instance) {
+        return ((Number) read(instance)).doubleValue();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.model.Result;
+
+/**
+ * Asynchronous counterpart of {@link Session}: operations return straight away with a {@link CompletionStage} which
+ * completes with the result of the operation, or exceptionally with the exception it failed with.
+ * <p>
+ * An AsyncSession wraps a single {@link Session} and runs its operations on the executor it was opened with, one at
+ * a time and in the order they were requested, so the session cache is never accessed concurrently. An operation is
+ * run even if an earlier one failed. Each operation runs in its own transaction, unless it begins one itself within
+ * {@link #run(Function)}, which is also the way to use any other method of the session. Consecutive operations may
+ * run on different threads, so a transaction can't span several operations.
+ * <p>
+ * Entities loaded by an AsyncSession must not be modified while an operation using them, such as a save, is pending.
+ *
+ * @see SessionFactory#openAsyncSession()
+ */
+public interface AsyncSession {
+
+    /**
+     * Load single entity instance of type, with default depth = 1
+     *
+     * @return stage completing with the entity instance, or null if not found
+     */
+    <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id);
+
+    /**
+     * Load single entity instance of type, with depth
+     *
+     * @return stage completing with the entity instance, or null if not found
+     */
+    <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id, int depth);
+
+    /**
+     * Load entities of type by their ids, with depth
+     *
+     * @return stage completing with the entities found
+     * @see Session#loadAll(Class, Collection, int)
+     */
+    <T, ID extends Serializable> CompletionStage<Collection<T>> loadAll(Class<T> type, Collection<ID> ids, int depth);
+
+    /**
+     * Load all entities of type, with depth
+     *
+     * @return stage completing with the entities
+     * @see Session#loadAll(Class, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAll(Class<T> type, int depth);
+
+    /**
+     * Load all entities of type, filtered by filter, with depth
+     *
+     * @return stage completing with the entities matching the filter
+     * @see Session#loadAll(Class, Filter, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filter filter, int depth);
+
+    /**
+     * Load all entities of type, filtered by filters, with depth
+     *
+     * @return stage completing with the entities matching the filters
+     * @see Session#loadAll(Class, Filters, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Save entity (or entities) into the database
+     *
+     * @param object object to save, may be single entity, array of entities or {@link Iterable}
+     * @return stage completing once the object has been saved
+     * @see Session#save(Object)
+     */
+    <T> CompletionStage<Void> save(T object);
+
+    /**
+     * Save entity (or entities) into the database, up to specified depth
+     *
+     * @param object object to save, may be single entity, array of entities or {@link Iterable}
+     * @return stage completing once the object has been saved
+     * @see Session#save(Object, int)
+     */
+    <T> CompletionStage<Void> save(T object, int depth);
+
+    /**
+     * Delete entity (or entities)
+     *
+     * @param object object to delete, may be single entity, array of entities or {@link Iterable}
+     * @return stage completing once the object has been deleted
+     */
+    <T> CompletionStage<Void> delete(T object);
+
+    /**
+     * Delete all entities of type
+     *
+     * @param type type of the entities to delete
+     * @return stage completing once the entities have been deleted
+     */
+    <T> CompletionStage<Void> deleteAll(Class<T> type);
+
+    /**
+     * @return stage completing with the instance of the objectType that matches the cypher and parameters, null if no
+     * object is matched
+     * @see Session#queryForObject(Class, String, Map)
+     */
+    <T> CompletionStage<T> queryForObject(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * @return stage completing with the domain objects or scalars as prescribed by the parametrized type
+     * @see Session#query(Class, String, Map)
+     */
+    <T> CompletionStage<Iterable<T>> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * @return stage completing with the {@link Result} of the query
+     * @see Session#query(String, Map, boolean)
+     */
+    CompletionStage<Result> query(String cypher, Map<String, ?> parameters, boolean readOnly);
+
+    /**
+     * Counts all the <em>node</em> entities of the specified type.
+     *
+     * @return stage completing with the number of entities in the database of the type
+     */
+    CompletionStage<Long> countEntitiesOfType(Class<?> entity);
+
+    /**
+     * Runs the given work with the underlying session, in turn with the other operations of this AsyncSession.
+     * <p>
+     * The session must not be used outside of the work, nor any lazily consumed result of it, such as a stream,
+     * be returned from it. A transaction begun by the work must be committed or rolled back before it returns,
+     * otherwise it is rolled back and the stage completes exceptionally with an {@link IllegalStateException}.
+     *
+     * @param work the work to run
+     * @return stage completing with the value returned by the work
+     */
+    <R> CompletionStage<R> run(Function<Session, R> work);
+
+    /**
+     * Clears the session cache once the operations requested so far have run.
+     *
+     * @return stage completing once the session has been cleared
+     */
+    CompletionStage<Void> clear();
+}
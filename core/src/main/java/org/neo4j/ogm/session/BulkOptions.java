@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+/**
+ * Options of {@link Session#bulkSave(Iterable, BulkOptions)}, built with a {@link BulkOptions.Builder}.
+ */
+public class BulkOptions {
+
+    private final int chunkSize;
+    private final int chunksPerTransaction;
+    private final int depth;
+    private final boolean trackEntities;
+
+    private BulkOptions(Builder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.chunksPerTransaction = builder.chunksPerTransaction;
+        this.depth = builder.depth;
+        this.trackEntities = builder.trackEntities;
+    }
+
+    /**
+     * @return options with the default values of the {@link Builder}
+     */
+    public static BulkOptions defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * @return the number of entities taken from the source and saved together
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the number of chunks saved in each transaction opened by the bulk save
+     */
+    public int getChunksPerTransaction() {
+        return chunksPerTransaction;
+    }
+
+    /**
+     * @return the depth up to which each entity is saved, -1 for its full tree of changed objects
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return true if saved entities are registered in the mapping context of the session
+     */
+    public boolean isTrackEntities() {
+        return trackEntities;
+    }
+
+    public static class Builder {
+
+        private int chunkSize = 1000;
+        private int chunksPerTransaction = 1;
+        private int depth = -1;
+        private boolean trackEntities = true;
+
+        /**
+         * Sets the number of entities taken from the source and saved together, 1000 by default. Each chunk is saved
+         * with one request, made of one batched statement per kind of node and relationship.
+         *
+         * @param chunkSize the number of entities per chunk, at least 1
+         * @return the builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("The chunk size must be at least 1: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of chunks saved in each transaction, 1 by default. A transaction is only opened and
+         * committed by the bulk save if none is current; otherwise all chunks are saved in the current transaction.
+         *
+         * @param chunksPerTransaction the number of chunks per transaction, at least 1
+         * @return the builder
+         */
+        public Builder chunksPerTransaction(int chunksPerTransaction) {
+            if (chunksPerTransaction < 1) {
+                throw new IllegalArgumentException("The number of chunks per transaction must be at least 1: " + chunksPerTransaction);
+            }
+            this.chunksPerTransaction = chunksPerTransaction;
+            return this;
+        }
+
+        /**
+         * Sets the depth up to which each entity is saved, -1 by default, as with {@link Session#save(Object, int)}.
+         *
+         * @param depth the depth
+         * @return the builder
+         */
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * Sets whether saved entities are registered in the mapping context of the session, true by default.
+         * <p>
+         * When false, each chunk is saved with a mapping context of its own, which is dropped once the chunk is saved,
+         * so the memory used doesn't grow with the number of entities. Only the graph ids of the saved nodes are kept
+         * until the bulk save returns, so that a node saved by an earlier chunk and reached again from a later one is
+         * linked to without being written again, nor, when saving to full depth, traversed again. Saved entities still
+         * get their graph id, but the session doesn't know them afterwards: entities without a graph id field are
+         * created again when reached from a later chunk or saved later.
+         * <p>
+         * This only bounds memory when the bulk save commits its own transactions. Within a transaction begun by the
+         * caller, the transaction keeps every entity it creates until it is committed, so that their ids can be reset
+         * on rollback, and memory grows with the number of new entities whichever option is set.
+         *
+         * @param trackEntities false to not keep track of saved entities
+         * @return the builder
+         */
+        public Builder trackEntities(boolean trackEntities) {
+            this.trackEntities = trackEntities;
+            return this;
+        }
+
+        public BulkOptions build() {
+            return new BulkOptions(this);
+        }
+    }
+}
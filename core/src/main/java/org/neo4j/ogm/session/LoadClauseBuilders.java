@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.CachingLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.PathLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.SchemaLoadClauseBuilder;
+
+/**
+ * Caching load clause builders of each {@link LoadStrategy}, created once per {@link SessionFactory} and shared by its
+ * sessions, so the load clauses are built once per label and depth and sent as identical statements.
+ */
+class LoadClauseBuilders {
+
+    private final LoadClauseBuilder pathLoadClauseBuilder;
+    private final LoadClauseBuilder schemaLoadClauseBuilder;
+
+    LoadClauseBuilders(MetaData metaData) {
+        this.pathLoadClauseBuilder = new CachingLoadClauseBuilder(new PathLoadClauseBuilder());
+        this.schemaLoadClauseBuilder = new CachingLoadClauseBuilder(new SchemaLoadClauseBuilder(metaData.getSchema()));
+    }
+
+    LoadClauseBuilder forStrategy(LoadStrategy loadStrategy, int depth) {
+        if (depth < 0) {
+            return pathLoadClauseBuilder;
+        }
+
+        switch (loadStrategy) {
+            case PATH_LOAD_STRATEGY:
+                return pathLoadClauseBuilder;
+
+            case SCHEMA_LOAD_STRATEGY:
+                return schemaLoadClauseBuilder;
+
+            default:
+                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Runs the operations of a {@link Session} on an executor, chaining each operation after the previous one.
+ */
+class Neo4jAsyncSession implements AsyncSession {
+
+    private final Session session;
+    private final Executor executor;
+
+    // completes once the last requested operation has run
+    private CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+    Neo4jAsyncSession(Session session, Executor executor) {
+        this.session = session;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id) {
+        return run(session -> session.load(type, id));
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id, int depth) {
+        return run(session -> session.load(type, id, depth));
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<Collection<T>> loadAll(Class<T> type, Collection<ID> ids, int depth) {
+        return run(session -> session.loadAll(type, ids, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAll(Class<T> type, int depth) {
+        return run(session -> session.loadAll(type, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filter filter, int depth) {
+        return run(session -> session.loadAll(type, filter, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filters filters, int depth) {
+        return run(session -> session.loadAll(type, filters, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Void> save(T object) {
+        return run(session -> {
+            session.save(object);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> save(T object, int depth) {
+        return run(session -> {
+            session.save(object, depth);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> delete(T object) {
+        return run(session -> {
+            session.delete(object);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> deleteAll(Class<T> type) {
+        return run(session -> {
+            session.deleteAll(type);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<T> queryForObject(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return run(session -> session.queryForObject(objectType, cypher, parameters));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> query(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return run(session -> session.query(objectType, cypher, parameters));
+    }
+
+    @Override
+    public CompletionStage<Result> query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return run(session -> session.query(cypher, parameters, readOnly));
+    }
+
+    @Override
+    public CompletionStage<Long> countEntitiesOfType(Class<?> entity) {
+        return run(session -> session.countEntitiesOfType(entity));
+    }
+
+    @Override
+    public CompletionStage<Void> clear() {
+        return run(session -> {
+            session.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public <R> CompletionStage<R> run(Function<Session, R> work) {
+        CompletableFuture<R> operation;
+        synchronized (this) {
+            // run after the previous operation whether it succeeded or not, it reports its own outcome
+            operation = last.handleAsync((previousResult, previousFailure) -> applyInOwnTransactions(work), executor);
+            last = operation;
+        }
+        // callers get a dependent stage, so completing it themselves cannot start the next operation early
+        return operation.thenApply(Function.identity());
+    }
+
+    // consecutive operations may run on different threads, to which the embedded driver binds its transactions, so
+    // a transaction begun by some work must end with it
+    private <R> R applyInOwnTransactions(Function<Session, R> work) {
+        R result = work.apply(session);
+        if (session.getTransaction() == null) {
+            return result;
+        }
+        Transaction transaction;
+        while ((transaction = session.getTransaction()) != null) {
+            transaction.rollback();
+            transaction.close();
+        }
+        throw new IllegalStateException("A transaction begun by the work of an AsyncSession must be committed or "
+            + "rolled back by that work, it has been rolled back");
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
@@ -39,12 +40,9 @@ import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.session.delegates.*;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
-import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
-import org.neo4j.ogm.session.request.strategy.impl.PathLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
-import org.neo4j.ogm.session.request.strategy.impl.SchemaLoadClauseBuilder;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.RelationshipUtils;
@@ -61,11 +59,17 @@ import static java.util.Collections.emptySet;
  */
 public class Neo4jSession implements Session {
 
+    // entities held by the context of a stream, besides the ones handed out, when the session is unbounded
+    private static final int DEFAULT_STREAM_CONTEXT_CAPACITY = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(Neo4jSession.class);
 
     private final MetaData metaData;
+    private final boolean readOnly;
     private final MappingContext mappingContext;
+    private final int mappingContextCapacity;
     private final DefaultTransactionManager txManager;
+    private final LoadClauseBuilders loadClauseBuilders;
 
     private final LoadOneDelegate loadOneHandler = new LoadOneDelegate(this);
     private final LoadByTypeDelegate loadByTypeHandler = new LoadByTypeDelegate(this);
@@ -78,23 +82,55 @@ public class Neo4jSession implements Session {
 
     private LoadStrategy loadStrategy;
 
+    // maximum number of rows of the statements sent to save entities, 0 if unbounded
+    private final int maxRowsPerStatement;
+
     private Driver driver;
     private String bookmark;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, 0, 0, new LoadClauseBuilders(metaData), false);
+    }
+
+    private Neo4jSession(MetaData metaData, Driver driver, int mappingContextCapacity, int maxRowsPerStatement,
+        LoadClauseBuilders loadClauseBuilders, boolean readOnly) {
 
         this.metaData = metaData;
         this.driver = driver;
+        this.loadClauseBuilders = loadClauseBuilders;
+        this.readOnly = readOnly;
+        this.mappingContextCapacity = mappingContextCapacity;
+        this.maxRowsPerStatement = maxRowsPerStatement;
 
-        this.mappingContext = new MappingContext(metaData);
+        this.mappingContext = readOnly ? new MappingContext(metaData, 0, false) : new MappingContext(metaData, mappingContextCapacity);
         this.txManager = new DefaultTransactionManager(this, driver);
         this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
     }
 
     public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy) {
-        this(metaData, driver);
+        this(metaData, driver, eventListeners, loadStrategy, 0);
+    }
+
+    /**
+     * @param mappingContextCapacity maximum number of node entities, and of relationship entities, this session keeps
+     * track of, 0 if unbounded. See {@link MappingContext}
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy,
+        int mappingContextCapacity) {
+        this(metaData, driver, eventListeners, loadStrategy, mappingContextCapacity, 0, new LoadClauseBuilders(metaData), false);
+    }
+
+    /**
+     * @param maxRowsPerStatement maximum number of rows of each statement sent to save entities, 0 if unbounded, see
+     * {@link org.neo4j.ogm.config.Configuration.Builder#maxRowsPerStatement(Integer)}
+     * @param readOnly if true, the session doesn't keep track of the entities it loads, see
+     * {@link SessionFactory#openReadOnlySession()}
+     */
+    Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy,
+        int mappingContextCapacity, int maxRowsPerStatement, LoadClauseBuilders loadClauseBuilders, boolean readOnly) {
+        this(metaData, driver, mappingContextCapacity, maxRowsPerStatement, loadClauseBuilders, readOnly);
         registeredEventListeners.addAll(eventListeners);
 
         this.loadStrategy = loadStrategy;
@@ -285,6 +321,26 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type) {
+        return loadByTypeHandler.stream(type);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, int depth) {
+        return loadByTypeHandler.stream(type, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.stream(type, filters, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return loadByTypeHandler.stream(type, filters, sortOrder, depth);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -391,6 +447,11 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.stream(type, cypher, parameters);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(cypher, parameters);
@@ -418,6 +479,7 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
+        assertNotReadOnly();
         deleteDelegate.purgeDatabase();
     }
 
@@ -428,16 +490,19 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> void delete(T object) {
+        assertNotReadOnly();
         deleteDelegate.delete(object);
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
+        assertNotReadOnly();
         deleteDelegate.deleteAll(type);
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
+        assertNotReadOnly();
         return deleteDelegate.delete(type, filters, listResults);
     }
 
@@ -448,14 +513,22 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
+        assertNotReadOnly();
         saveDelegate.save(object);
     }
 
     @Override
     public <T> void save(T object, int depth) {
+        assertNotReadOnly();
         saveDelegate.save(object, depth);
     }
 
+    @Override
+    public <T> void bulkSave(Iterable<T> objects, BulkOptions options) {
+        assertNotReadOnly();
+        saveDelegate.bulkSave(objects, options);
+    }
+
 
     /*
     *----------------------------------------------------------------------------------------------------------
@@ -517,7 +590,7 @@ public class Neo4jSession implements Session {
         if (metaData.isRelationshipEntity(type.getName())) {
             return new RelationshipQueryStatements<>(primaryIdName);
         } else {
-            return new NodeQueryStatements<>(primaryIdName, loadClauseBuilder(depth));
+            return new NodeQueryStatements<>(primaryIdName, loadClauseBuilders.forStrategy(loadStrategy, depth));
         }
     }
 
@@ -541,7 +614,51 @@ public class Neo4jSession implements Session {
     }
 
     public Request requestHandler() {
-        return driver.request();
+        return driver.request(txManager);
+    }
+
+    /**
+     * The mapping context the response to a request is mapped into: the context of this session, or a new one for
+     * each request of a read-only session, so that its entities are only de-duplicated within the response to a
+     * request.
+     *
+     * @return the mapping context for the response to a request
+     */
+    public MappingContext requestContext() {
+        return readOnly ? new MappingContext(metaData, 0, false) : mappingContext;
+    }
+
+    /**
+     * The mapping context a stream of entities is mapped into: a new one for each stream, which only de-duplicates
+     * entities and holds as many of them as this session can, or {@value #DEFAULT_STREAM_CONTEXT_CAPACITY} if this
+     * session is unbounded, besides the entities the stream has handed out. Streamed entities are not tracked by this
+     * session, so the memory a stream needs doesn't grow with this session.
+     *
+     * @return a new mapping context for a stream
+     */
+    public MappingContext streamContext() {
+        int capacity = mappingContextCapacity > 0 ? mappingContextCapacity : DEFAULT_STREAM_CONTEXT_CAPACITY;
+        return new MappingContext(metaData, capacity, false);
+    }
+
+    /**
+     * @return true if this session doesn't keep track of the entities it loads
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void assertNotReadOnly() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Entities can't be saved or deleted with a read-only session");
+        }
+    }
+
+    /**
+     * @return the maximum number of rows of each statement sent to save entities, 0 if unbounded
+     */
+    public int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
     }
 
     public DefaultTransactionManager transactionManager() {
@@ -649,20 +766,4 @@ public class Neo4jSession implements Session {
         this.loadStrategy = loadStrategy;
     }
 
-    private LoadClauseBuilder loadClauseBuilder(int depth) {
-        if (depth < 0) {
-            return new PathLoadClauseBuilder();
-        }
-
-        switch (loadStrategy) {
-            case PATH_LOAD_STRATEGY:
-                return new PathLoadClauseBuilder();
-
-            case SCHEMA_LOAD_STRATEGY:
-                return new SchemaLoadClauseBuilder(metaData.getSchema());
-
-            default:
-                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
-        }
-    }
 }
@@ -16,6 +16,7 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.GraphId;
 import org.neo4j.ogm.cypher.Filter;
@@ -531,6 +532,63 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Stream all entities of type, with default depth = 1.
+     *
+     * @param type type of entities
+     *
+     * @return stream of entities, must be closed once it is no longer used
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> type);
+
+    /**
+     * Stream all entities of type, with depth.
+     *
+     * @param type type of entities
+     * @param depth depth
+     *
+     * @return stream of entities, must be closed once it is no longer used
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> type, int depth);
+
+    /**
+     * Stream all entities of type, filtered by filters.
+     *
+     * @param type type of entities
+     * @param filters filters
+     * @param depth depth
+     *
+     * @return stream of entities, must be closed once it is no longer used
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Stream all entities of type, filtered by filters and sorted by sort order.
+     * <p>
+     * Entities are mapped record by record as the stream is consumed instead of being collected up front. Each stream
+     * maps into a mapping context of its own, which holds as many entities as this session can (a fixed number if
+     * this session is unbounded) besides the entities it has handed out, so streamed entities are not tracked by this
+     * session: load them again to modify and save them. At depth 0 memory usage doesn't depend on the size of the
+     * result; beyond depth 0 the entities handed out are held until the stream is closed. The results are only read
+     * lazily inside a transaction; without one the driver buffers the whole result before the auto-commit
+     * transaction is committed. Queries that need row results (filters on a path load strategy, sorting) are mapped
+     * eagerly. When an entity spans several records (e.g. with {@link LoadStrategy#PATH_LOAD_STRATEGY}) it is
+     * emitted with the first one and its relationships are completed as the following records are mapped.
+     * <p>
+     * The stream holds on to the underlying response and should be used in a try-with-resources block.
+     *
+     * @param type type of entities
+     * @param filters filters
+     * @param sortOrder sort order
+     * @param depth depth
+     *
+     * @return stream of entities, must be closed once it is no longer used
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -567,6 +625,24 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Save a possibly large or lazily produced sequence of entities into the database, in chunks.
+     * <p>
+     * The source is consumed one chunk at a time, so it doesn't have to be held in memory as a whole. Each chunk is
+     * saved with one request, where new nodes and relationships are created with one batched statement per kind.
+     * When no transaction is current, one is opened and committed every
+     * {@link BulkOptions#getChunksPerTransaction()} chunks, so that chunks committed before a failure remain in the
+     * database; otherwise all chunks are saved in the current transaction, which holds on to every entity created
+     * until it is committed, so that their ids can be reset if it is rolled back.
+     * <p>
+     * When new objects are saved the instances are modified - the graph id is set to respective field. Whether saved
+     * entities are registered in this session is set by {@link BulkOptions#isTrackEntities()}.
+     *
+     * @param objects the entities to save
+     * @param options the size of the chunks, of the transactions, and how saved entities are tracked
+     */
+    <T> void bulkSave(Iterable<T> objects, BulkOptions options);
+
     /**
      * Delete entity (or entities)
      *
@@ -690,6 +766,19 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * a cypher statement this method will return a stream of domain objects that are mapped record by record as the
+     * stream is consumed, or a stream of scalars (depending on the parametrized type).
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher The parametrizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T> A domain object or scalar.
+     * @return A stream of domain objects or scalars, must be closed once it is no longer used.
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -16,6 +16,10 @@ package org.neo4j.ogm.session;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
@@ -43,9 +47,16 @@ public class SessionFactory {
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final LoadClauseBuilders loadClauseBuilders;
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
 
+    private int mappingContextCapacity;
+
+    private int maxRowsPerStatement;
+
+    private ExecutorService asyncExecutor;
+
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
      * object packages and starts up the Neo4j database in embedded mode.  If the embedded driver is not available this method
@@ -83,6 +94,9 @@ public class SessionFactory {
         AutoIndexManager autoIndexManager = new AutoIndexManager(this.metaData, driver, configuration);
         autoIndexManager.build();
         this.eventListeners = new CopyOnWriteArrayList<>();
+        this.loadClauseBuilders = new LoadClauseBuilders(metaData);
+        this.mappingContextCapacity = configuration.getMappingContextCapacity();
+        this.maxRowsPerStatement = configuration.getMaxRowsPerStatement();
     }
 
     private Driver newDriverInstance(String driverClassName) {
@@ -106,6 +120,7 @@ public class SessionFactory {
         this.metaData = new MetaData(packages);
         this.driver = driver;
         this.eventListeners = new CopyOnWriteArrayList<>();
+        this.loadClauseBuilders = new LoadClauseBuilders(metaData);
     }
 
     /**
@@ -125,7 +140,57 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy);
+        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy, mappingContextCapacity, maxRowsPerStatement,
+            loadClauseBuilders, false);
+    }
+
+    /**
+     * Opens a new read-only {@link Session}, for code that loads entities but never saves them.
+     * <p>
+     * The session doesn't keep track of the entities it loads: no dirty-checking state, label history or mapped
+     * relationships are kept, which saves the memory and time needed to record them. Entities are de-duplicated within
+     * the response to each request, but loading an entity again returns a new instance. Entities can't be saved or
+     * deleted with the session, while queries, including modifying ones, can still be run.
+     *
+     * @return A new read-only {@link Session}
+     */
+    public Session openReadOnlySession() {
+        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy, 0, maxRowsPerStatement, loadClauseBuilders, true);
+    }
+
+    /**
+     * Opens a new {@link AsyncSession}, running its operations on threads owned by this SessionFactory, which are
+     * created as needed and stopped when it is closed.
+     *
+     * @return A new {@link AsyncSession}
+     */
+    public AsyncSession openAsyncSession() {
+        return openAsyncSession(asyncExecutor());
+    }
+
+    /**
+     * Opens a new {@link AsyncSession}, running its operations on the given executor. As the drivers block while
+     * waiting for the database, the executor should not be one whose threads are meant to be kept busy, like the
+     * common fork join pool.
+     *
+     * @param executor the executor to run the operations of the session on
+     * @return A new {@link AsyncSession}
+     */
+    public AsyncSession openAsyncSession(Executor executor) {
+        requireNonNull(executor);
+        return new Neo4jAsyncSession(openSession(), executor);
+    }
+
+    private synchronized ExecutorService asyncExecutor() {
+        if (asyncExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "neo4j-ogm-async-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return asyncExecutor;
     }
 
     /**
@@ -170,6 +235,48 @@ public class SessionFactory {
         this.loadStrategy = loadStrategy;
     }
 
+    /**
+     * Returns the maximum number of node entities, and of relationship entities, sessions keep track of
+     *
+     * @return the capacity, 0 if unbounded
+     */
+    public int getMappingContextCapacity() {
+        return mappingContextCapacity;
+    }
+
+    /**
+     * Sets the maximum number of node entities, and of relationship entities, sessions keep track of.
+     * <p>
+     * Only Session instances created after this call are affected. See
+     * {@link org.neo4j.ogm.config.Configuration.Builder#mappingContextCapacity(Integer)}
+     *
+     * @param mappingContextCapacity the capacity, 0 for unbounded sessions
+     */
+    public void setMappingContextCapacity(int mappingContextCapacity) {
+        this.mappingContextCapacity = mappingContextCapacity;
+    }
+
+    /**
+     * Returns the maximum number of rows of each statement sessions send to save entities
+     *
+     * @return the maximum number of rows, 0 if unbounded
+     */
+    public int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * Sets the maximum number of rows of each statement sessions send to save entities.
+     * <p>
+     * Only Session instances created after this call are affected. See
+     * {@link org.neo4j.ogm.config.Configuration.Builder#maxRowsPerStatement(Integer)}
+     *
+     * @param maxRowsPerStatement the maximum number of rows, 0 for no limit
+     */
+    public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
     /**
      * Returns driver used by this SessionFactory
      *
@@ -185,6 +292,11 @@ public class SessionFactory {
      * Also closes any underlying resources, like driver etc.
      */
     public void close() {
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
+            }
+        }
         driver.close();
     }
 
@@ -13,10 +13,13 @@
 package org.neo4j.ogm.session.delegates;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
@@ -86,16 +89,32 @@ public class ExecuteQueriesDelegate {
         return executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
     }
 
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+        if (session.metaData().classInfo(type.getSimpleName()) == null) {
+            // scalar rows are cheap to hold, only entity mapping benefits from streaming
+            return StreamSupport.stream(executeAndMap(type, cypher, parameters, new EntityRowModelMapper()).spliterator(), false);
+        }
+        GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+        Response<GraphModel> response = session.requestHandler().execute(request);
+        return new GraphEntityMapper(session.metaData(), session.streamContext()).stream(type, response);
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
 
         RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
-        ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), session.context()), session.metaData());
 
+        MappingContext context = session.requestContext();
         try (Response<RestModel> response = session.requestHandler().execute(request)) {
+            ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), context), session.metaData());
             Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
             RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
+            context.evictIfNecessary(resultEntities(restStatisticsModel.getResult()));
 
             if (readOnly) {
                 return new QueryResultModel(restStatisticsModel.getResult(), null);
@@ -105,12 +124,33 @@ public class ExecuteQueriesDelegate {
         }
     }
 
+    /**
+     * @return the values of the result rows, and the elements of those which are collections, among which the
+     * entities returned by the query
+     */
+    private static Collection<Object> resultEntities(Collection<Map<String, Object>> result) {
+        Collection<Object> values = new ArrayList<>();
+        for (Map<String, Object> row : result) {
+            for (Object value : row.values()) {
+                if (value instanceof Iterable) {
+                    ((Iterable<?>) value).forEach(values::add);
+                } else {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters, ResponseMapper mapper) {
 
         if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
             GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+            MappingContext context = session.requestContext();
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                return new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+                Iterable<T> results = new GraphEntityMapper(session.metaData(), context).map(type, response);
+                context.evictIfNecessary(results);
+                return results;
             }
         } else {
             RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
@@ -56,18 +57,22 @@ public class LoadByIdsDelegate {
                 .setPagination(pagination);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+        MappingContext context = session.requestContext();
         try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), context).map(type, response);
 
+            Set<T> results;
             if (sortOrder.sortClauses().isEmpty()) {
-                return sortResultsByIds(type, ids, mapped);
-            }
-            Set<T> results = new LinkedHashSet<>();
-            for (T entity : mapped) {
-                if (includeMappedEntity(ids, entity)) {
-                    results.add(entity);
+                results = sortResultsByIds(type, ids, mapped);
+            } else {
+                results = new LinkedHashSet<>();
+                for (T entity : mapped) {
+                    if (includeMappedEntity(ids, entity)) {
+                        results.add(entity);
+                    }
                 }
             }
+            context.evictIfNecessary(results);
             return results;
         }
     }
@@ -14,9 +14,12 @@ package org.neo4j.ogm.session.delegates;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.GraphRowListModelMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.*;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
@@ -25,6 +28,7 @@ import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * @author Vince Bickers
@@ -39,8 +43,52 @@ public class LoadByTypeDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+        return loadAll(type, filters, sortOrder, pagination, depth, session.requestContext());
+    }
+
+    private <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth,
+        MappingContext context) {
 
         //session.ensureTransaction();
+        PagingAndSortingQuery query = findByType(type, filters, sortOrder, pagination, depth);
+
+        Collection<T> results;
+        if (query.needsRowResult()) {
+            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(query.getStatement(), query.getParameters());
+            try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
+                results = (Collection<T>) new GraphRowListModelMapper(session.metaData(), context).map(type, response);
+            }
+        } else {
+            GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                results = (Collection<T>) new GraphEntityMapper(session.metaData(), context).map(type, response);
+            }
+        }
+
+        context.evictIfNecessary(results);
+
+        if (pagination != null && pagination.isKeyset()) {
+            pagination.continueAfter(lastKey(type, pagination, results));
+        }
+        return results;
+    }
+
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+
+        PagingAndSortingQuery query = findByType(type, filters, sortOrder, null, depth);
+
+        if (query.needsRowResult()) {
+            // row results are delivered as a single list model, there is nothing to gain from mapping them lazily
+            return loadAll(type, filters, sortOrder, null, depth, session.streamContext()).stream();
+        }
+
+        GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+        Response<GraphModel> response = session.requestHandler().execute(request);
+        return new GraphEntityMapper(session.metaData(), session.streamContext()).stream(type, response, depth == 0);
+    }
+
+    private <T> PagingAndSortingQuery findByType(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+
         String entityType = session.entityType(type.getName());
         QueryStatements queryStatements = session.queryStatementsFor(type, depth);
 
@@ -57,20 +105,66 @@ public class LoadByTypeDelegate {
         query.setSortOrder(sortOrder)
                 .setPagination(pagination);
 
-        if (query.needsRowResult()) {
-            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(query.getStatement(), query.getParameters());
-            try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-                return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
+        if (pagination != null && pagination.isKeyset()) {
+            if (!sortOrder.sortClauses().isEmpty()) {
+                throw new IllegalArgumentException("Keyset pagination orders results by its key and cannot be combined with a sort order");
             }
-        } else {
-            GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
-            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+            FieldInfo keyField = keyField(type, pagination);
+            query.setKeyProperty(keyField == null ? null : keyField.property());
+        }
+        return query;
+    }
+
+    /**
+     * @return the field keyset pagination pages over, null for the native id
+     */
+    private FieldInfo keyField(Class<?> type, Pagination pagination) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        if (pagination.getKeyProperty() == null) {
+            return classInfo.primaryIndexField();
+        }
+        FieldInfo keyField = classInfo.propertyFieldByName(pagination.getKeyProperty());
+        if (keyField == null) {
+            throw new IllegalArgumentException("No property " + pagination.getKeyProperty() + " to page over in " + type.getName());
+        }
+        return keyField;
+    }
+
+    /**
+     * Beyond depth 0 the page is mapped from rows, and holds only the root entities of the ID(n) column, not the
+     * related entities of the same type. These come back in the order their rows are read, so the greatest key is
+     * taken rather than the key of the last entity.
+     *
+     * @param page the root entities of the page
+     * @return the greatest key of a full page, null when the page is the last one
+     */
+    @SuppressWarnings("unchecked")
+    private Object lastKey(Class<?> type, Pagination pagination, Collection<?> page) {
+        if (page.size() < pagination.getPageSize()) {
+            return null;
+        }
+        FieldInfo keyField = keyField(type, pagination);
+        Comparable<Object> lastKey = null;
+        for (Object entity : page) {
+            Comparable<Object> key = (Comparable<Object>) (keyField == null ? session.context().nativeId(entity) : keyField.readProperty(entity));
+            if (lastKey == null || key.compareTo(lastKey) > 0) {
+                lastKey = key;
             }
         }
+        return lastKey;
+    }
 
+    public <T> Stream<T> stream(Class<T> type) {
+        return stream(type, new Filters(), new SortOrder(), 1);
     }
 
+    public <T> Stream<T> stream(Class<T> type, int depth) {
+        return stream(type, new Filters(), new SortOrder(), depth);
+    }
+
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return stream(type, filters, new SortOrder(), depth);
+    }
 
     public <T> Collection<T> loadAll(Class<T> type) {
         return loadAll(type, new Filters(), new SortOrder(), null, 1);
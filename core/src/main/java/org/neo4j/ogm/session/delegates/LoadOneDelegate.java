@@ -13,12 +13,14 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.Collections;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.exception.OgmException;
@@ -69,30 +71,34 @@ public class LoadOneDelegate {
         PagingAndSortingQuery qry = queryStatements.findOneByType(session.entityType(type.getName()), id, depth);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+        MappingContext context = session.requestContext();
         try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-            return lookup(type, id);
+            new GraphEntityMapper(session.metaData(), context).map(type, response);
+            // evict only once the entity was looked up, as it may well be the least recently used one of the response
+            T entity = lookup(context, type, id);
+            context.evictIfNecessary(Collections.singletonList(entity));
+            return entity;
         }
     }
 
-    private <T, U> T lookup(Class<T> type, U id) {
+    private <T, U> T lookup(MappingContext context, Class<T> type, U id) {
         Object ref;
         ClassInfo typeInfo = session.metaData().classInfo(type.getName());
 
         FieldInfo primaryIndex = typeInfo.primaryIndexField();
         if (typeInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
             if (primaryIndex == null) {
-                ref = session.context().getNodeEntity((Long) id);
+                ref = context.getNodeEntity((Long) id);
             } else {
-                ref = session.context().getNodeEntityById(typeInfo, id);
+                ref = context.getNodeEntityById(typeInfo, id);
             }
         } else {
             if (primaryIndex == null) {
                 // Coercing to Long. identityField.convertedType() yields no parametrised type to call cast() with.
                 // But we know this will always be Long.
-                ref = session.context().getRelationshipEntity((Long) id);
+                ref = context.getRelationshipEntity((Long) id);
             } else {
-                ref = session.context().getRelationshipEntityById(typeInfo, id);
+                ref = context.getRelationshipEntityById(typeInfo, id);
             }
         }
         try {
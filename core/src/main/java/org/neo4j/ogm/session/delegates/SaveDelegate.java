@@ -15,13 +15,17 @@ package org.neo4j.ogm.session.delegates;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.session.BulkOptions;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.RequestExecutor;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Vince Bickers
@@ -69,6 +73,7 @@ public class SaveDelegate {
             if (session.eventsEnabled()) {
                 eventsDelegate.postSave();
             }
+            session.context().evictIfNecessary();
         } else {
             ClassInfo classInfo = session.metaData().classInfo(object);
             if (classInfo != null) {
@@ -84,9 +89,72 @@ public class SaveDelegate {
                 if (session.eventsEnabled()) {
                     eventsDelegate.postSave();
                 }
+                session.context().evictIfNecessary();
             } else {
                 session.warn(object.getClass().getName() + " is not an instance of a persistable class");
             }
         }
     }
+
+    public <T> void bulkSave(Iterable<T> objects, BulkOptions options) {
+
+        Iterator<T> iterator = objects.iterator();
+
+        // chunks are committed as they go only if the caller didn't start a transaction
+        Transaction tx = session.getTransaction();
+        boolean ownTransactions = tx == null;
+        int chunksInTransaction = 0;
+        MappingContext chunkContext = options.isTrackEntities() ? session.context() : new MappingContext(session.metaData());
+
+        try {
+            while (iterator.hasNext()) {
+                if (ownTransactions && tx == null) {
+                    tx = session.beginTransaction();
+                }
+                chunkContext = saveChunk(iterator, options, chunkContext);
+                if (ownTransactions && ++chunksInTransaction == options.getChunksPerTransaction()) {
+                    tx.commit();
+                    tx.close();
+                    tx = null;
+                    chunksInTransaction = 0;
+                }
+            }
+            if (ownTransactions && tx != null) {
+                tx.commit();
+            }
+        } finally {
+            // rolls back the chunks of the transaction if they couldn't all be saved
+            if (ownTransactions && tx != null) {
+                tx.close();
+            }
+        }
+    }
+
+    /**
+     * @return the mapping context to save the next chunk with
+     */
+    private <T> MappingContext saveChunk(Iterator<T> iterator, BulkOptions options, MappingContext mappingContext) {
+
+        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session, mappingContext);
+
+        EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), mappingContext);
+        for (int i = 0; i < options.getChunkSize() && iterator.hasNext(); i++) {
+            T element = iterator.next();
+            if (session.eventsEnabled()) {
+                eventsDelegate.preSave(element);
+            }
+            mapper.map(element, options.getDepth());
+        }
+        new RequestExecutor(session, mappingContext).executeSave(mapper.compileContext());
+
+        if (session.eventsEnabled()) {
+            eventsDelegate.postSave();
+        }
+        if (options.isTrackEntities()) {
+            session.context().evictIfNecessary();
+            return mappingContext;
+        }
+        // the next chunk only knows the entities saved so far by id, so they are not written again
+        return mappingContext.nextChunkContext();
+    }
 }
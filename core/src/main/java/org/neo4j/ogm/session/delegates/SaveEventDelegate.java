@@ -17,6 +17,7 @@ import java.util.*;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -35,6 +36,7 @@ final class SaveEventDelegate {
     private static final Logger logger = LoggerFactory.getLogger(SaveEventDelegate.class);
 
     private Neo4jSession session;
+    private MappingContext mappingContext;
     private Set<Object> visited;
     private Set<Object> preSaved;
     private Set<MappedRelationship> registeredRelationships = new HashSet<>();
@@ -43,12 +45,21 @@ final class SaveEventDelegate {
 
 
     SaveEventDelegate(Neo4jSession session) {
+        this(session, session.context());
+    }
+
+    /**
+     * @param mappingContext the context the saved entities are registered in, which isn't the session's own one when
+     * a bulk save doesn't track entities
+     */
+    SaveEventDelegate(Neo4jSession session, MappingContext mappingContext) {
         this.session = session;
+        this.mappingContext = mappingContext;
         this.preSaved = new HashSet<>();
         this.visited = new HashSet<>();
 
         this.registeredRelationships.clear();
-        this.registeredRelationships.addAll(session.context().getRelationships());
+        this.registeredRelationships.addAll(mappingContext.getRelationships());
     }
 
     void preSave(Object object) {
@@ -121,8 +132,8 @@ final class SaveEventDelegate {
 
         for (MappedRelationship added : addedRelationships) {
 
-            Object src = session.context().getNodeEntity(added.getStartNodeId());
-            Object tgt = session.context().getNodeEntity(added.getEndNodeId());
+            Object src = mappingContext.getNodeEntity(added.getStartNodeId());
+            Object tgt = mappingContext.getNodeEntity(added.getEndNodeId());
 
             if (src != null) {
                 touched.add(src);
@@ -152,7 +163,7 @@ final class SaveEventDelegate {
     }
 
     private void addUnreachable(Set<Object> unreachable, long nodeId) {
-        Object entity = session.context().getNodeEntity(nodeId);
+        Object entity = mappingContext.getNodeEntity(nodeId);
         if (entity != null) {
             unreachable.add(entity);
         } else {
@@ -163,7 +174,7 @@ final class SaveEventDelegate {
 
     // registers this object as visited and returns true if it was not previously visited, false otherwise
     private boolean visit(Object object) {
-        return this.visited.add(session.context().nativeId(object));
+        return this.visited.add(mappingContext.nativeId(object));
     }
 
 
@@ -174,7 +185,7 @@ final class SaveEventDelegate {
     private boolean dirty(Object parent) {
 
         // have any properties changed
-        if (this.session.context().isDirty(parent)) {
+        if (mappingContext.isDirty(parent)) {
             logger.debug("dirty: {}", parent);
             return true;
         }
@@ -203,7 +214,7 @@ final class SaveEventDelegate {
             // compare the set of current relationships with the ones in the mapping context
             // if are there any missing from the mapping context, the object is dirty because
             // a previously mapped relationship has been deleted.
-            for (MappedRelationship previous : session.context().getRelationships()) {
+            for (MappedRelationship previous : mappingContext.getRelationships()) {
                 if (isDeleted(previous)) {
                     logger.debug("deleted: {} from {}", previous, parent);
                     return true;
@@ -217,7 +228,7 @@ final class SaveEventDelegate {
     // returns true if the specified mapped relationship is not found in the list
     // of mapped relationships that existed when the object being saved was originally loaded
     private boolean isNew(MappedRelationship mappedRelationship) {
-        return !this.session.context().getRelationships().contains(mappedRelationship);
+        return !mappingContext.getRelationships().contains(mappedRelationship);
     }
 
     // returns true if the specified mapped relationship is not found in the list
@@ -233,7 +244,7 @@ final class SaveEventDelegate {
     // have been deleted since the last time the objects were loaded.
     private void clearPreviousRelationships(Object parent, FieldInfo reader) {
 
-        Long id = session.context().nativeId(parent);
+        Long id = mappingContext.nativeId(parent);
         String type = reader.relationshipType();
         Class endNodeType = ClassUtils.getType(reader.typeDescriptor());
 
@@ -354,13 +365,13 @@ final class SaveEventDelegate {
         String direction = reader.relationshipDirection();
 
         ClassInfo parentInfo = this.session.metaData().classInfo(parent);
-        Long parentId = session.context().nativeId(parent);
+        Long parentId = mappingContext.nativeId(parent);
 
         ClassInfo referenceInfo = this.session.metaData().classInfo(reference);
 
         if (referenceInfo != null) {
 
-            Long referenceId = session.context().nativeId(reference);
+            Long referenceId = mappingContext.nativeId(reference);
 
             if (!referenceInfo.isRelationshipEntity()) {
 
@@ -375,11 +386,11 @@ final class SaveEventDelegate {
                 // graph relationship is transitive across the RE domain object
                 Object startNode = referenceInfo.getStartNodeReader().read(reference);
                 ClassInfo startNodeInfo = this.session.metaData().classInfo(startNode);
-                Long startNodeId = session.context().nativeId(startNode);
+                Long startNodeId = mappingContext.nativeId(startNode);
 
                 Object endNode = referenceInfo.getEndNodeReader().read(reference);
                 ClassInfo endNodeInfo = this.session.metaData().classInfo(endNode);
-                Long endNodeId = session.context().nativeId(endNode);
+                Long endNodeId = mappingContext.nativeId(endNode);
 
                 MappedRelationship edge = new MappedRelationship(startNodeId, type, endNodeId, referenceId, startNodeInfo.getUnderlyingClass(), endNodeInfo.getUnderlyingClass());
                 mappedRelationships.add(edge);
@@ -49,8 +49,23 @@ public class RequestExecutor {
 
     private Neo4jSession session;
 
+    // the context to register saved entities in, null for the current one of the session
+    private final MappingContext mappingContext;
+
     public RequestExecutor(Neo4jSession session) {
+        this(session, null);
+    }
+
+    /**
+     * Creates an executor registering the entities it saves in the given mapping context instead of the one of the
+     * session, for example a short-lived context used to save entities without keeping track of them.
+     *
+     * @param session the session to execute requests with
+     * @param mappingContext the context to register saved entities in
+     */
+    public RequestExecutor(Neo4jSession session, MappingContext mappingContext) {
         this.session = session;
+        this.mappingContext = mappingContext;
     }
 
     /**
@@ -163,10 +178,10 @@ public class RequestExecutor {
             if (!(obj instanceof TransientRelationship)) {
                 ClassInfo classInfo = session.metaData().classInfo(obj);
                 if (!classInfo.isRelationshipEntity()) {
-                    Long id = session.context().nativeId(obj);
+                    Long id = mappingContext().nativeId(obj);
                     if (id >= 0) {
                         LOGGER.debug("updating existing node id: {}, {}", id, obj);
-                        registerEntity(session.context(), classInfo, id, obj);
+                        registerEntity(mappingContext(), classInfo, id, obj);
                     }
                 }
             }
@@ -196,12 +211,12 @@ public class RequestExecutor {
     private void updateRelationshipEntities(CompileContext context, Neo4jSession session, List<ReferenceMapping> relationshipEntityRefMappings) {
         for (ReferenceMapping referenceMapping : relationshipEntityRefMappings) {
             if (referenceMapping.ref.equals(referenceMapping.id)) {
-                Object existingRelationshipEntity = session.context().getRelationshipEntity(referenceMapping.id);
+                Object existingRelationshipEntity = mappingContext().getRelationshipEntity(referenceMapping.id);
                 // not all relationship ids represent relationship entities
                 if (existingRelationshipEntity != null) {
                     LOGGER.debug("updating existing relationship entity id: {}", referenceMapping.id);
                     ClassInfo classInfo = session.metaData().classInfo(existingRelationshipEntity);
-                    registerEntity(session.context(), classInfo, referenceMapping.id, existingRelationshipEntity);
+                    registerEntity(mappingContext(), classInfo, referenceMapping.id, existingRelationshipEntity);
                 }
             } else {
                 Object newRelationshipEntity = context.getNewObject(referenceMapping.ref);
@@ -218,6 +233,7 @@ public class RequestExecutor {
 
         Compiler compiler = context.getCompiler();
         compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useMaxRowsPerStatement(session.getMaxRowsPerStatement());
 
         List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
         List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
@@ -290,10 +306,10 @@ public class RequestExecutor {
             if (registeredTransientRelationshipIndex.containsKey(referenceMapping.ref)) {
                 TransientRelationship transientRelationship = registeredTransientRelationshipIndex.get(referenceMapping.ref);
                 MappedRelationship mappedRelationship = new MappedRelationship(context.getId(transientRelationship.getSrc()), transientRelationship.getRel(), context.getId(transientRelationship.getTgt()), transientRelationship.getSrcClass(), transientRelationship.getTgtClass());
-                if (session.context().getRelationshipEntity(referenceMapping.id) != null) {
+                if (mappingContext().getRelationshipEntity(referenceMapping.id) != null) {
                     mappedRelationship.setRelationshipId(referenceMapping.id);
                 }
-                session.context().addRelationship(mappedRelationship);
+                mappingContext().addRelationship(mappedRelationship);
             }
         }
     }
@@ -324,7 +340,7 @@ public class RequestExecutor {
      * @param session the {@link Session}
      */
     private void initialiseNewEntity(Long identity, Object persisted, Neo4jSession session) {
-        MappingContext mappingContext = session.context();
+        MappingContext mappingContext = mappingContext();
         Transaction tx = session.getTransaction();
         if (persisted != null) {  // it will be null if the variable represents a simple relationship.
             // set the id field of the newly created domain object
@@ -339,6 +355,10 @@ public class RequestExecutor {
         }
     }
 
+    private MappingContext mappingContext() {
+        return mappingContext != null ? mappingContext : session.context();
+    }
+
     private void registerEntity(MappingContext mappingContext, ClassInfo classInfo, Long identity, Object entity) {
         // ensure the newly created domain object is added into the mapping context
         if (classInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
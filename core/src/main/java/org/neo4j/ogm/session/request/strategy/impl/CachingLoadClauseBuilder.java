@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+/**
+ * Load clause builder remembering the clauses built by another builder, so repeated loads of the same label and depth
+ * reuse the same statement text instead of building it again.
+ * <p>
+ * The delegate must build the same clause for the same arguments. Instances are thread safe and meant to be shared by all
+ * sessions of a session factory.
+ */
+public class CachingLoadClauseBuilder implements LoadClauseBuilder {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private final LoadClauseBuilder delegate;
+    private final Map<Key, String> clauses = new ConcurrentHashMap<>();
+
+    public CachingLoadClauseBuilder(LoadClauseBuilder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String build(String variable, String label, int depth) {
+        Key key = new Key(variable, label, depth);
+        String clause = clauses.get(key);
+        if (clause == null) {
+            clause = delegate.build(variable, label, depth);
+            // the number of labels is bounded by the domain, but depth is not
+            if (clauses.size() < MAX_ENTRIES) {
+                clauses.putIfAbsent(key, clause);
+            }
+        }
+        return clause;
+    }
+
+    private static final class Key {
+
+        private final String variable;
+        private final String label;
+        private final int depth;
+        private final int hash;
+
+        Key(String variable, String label, int depth) {
+            this.variable = variable;
+            this.label = label;
+            this.depth = depth;
+            this.hash = 31 * (31 * variable.hashCode() + label.hashCode()) + depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return depth == key.depth && variable.equals(key.variable) && label.equals(key.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
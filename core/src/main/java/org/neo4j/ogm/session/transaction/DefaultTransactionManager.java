@@ -21,11 +21,15 @@ import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
 
-import java.util.Collections;
-
 import static java.util.Collections.emptySet;
 
 /**
+ * Keeps track of the current transaction of a session.
+ * <p>
+ * The transaction belongs to the session rather than to the thread using it, so a session can be handed from one
+ * thread to another, as when requests are served by virtual threads or by an executor, and sessions used by the same
+ * thread do not see each other's transactions. Like the session, a transaction manager is not thread safe.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  */
@@ -34,24 +38,22 @@ public class DefaultTransactionManager implements TransactionManager {
     private final Driver driver;
     private final Session session;
 
-    private static final ThreadLocal<Transaction> TRANSACTION_THREAD_LOCAL = new ThreadLocal<>();
+    private Transaction currentTransaction;
 
     public DefaultTransactionManager(Session session, Driver driver) {
         this.driver = driver;
         this.driver.setTransactionManager(this);
         this.session = session;
-
-        TRANSACTION_THREAD_LOCAL.remove();
     }
 
     /**
-     * Opens a new TRANSACTION_THREAD_LOCAL against a database instance.
-     * Instantiation of the TRANSACTION_THREAD_LOCAL is left to the driver
+     * Opens a new transaction against a database instance.
+     * Instantiation of the transaction is left to the driver
      *
      * @return a new {@link Transaction}
      */
     public Transaction openTransaction() {
-        AbstractTransaction tx = ((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get());
+        AbstractTransaction tx = (AbstractTransaction) currentTransaction;
         if (tx == null) {
             return openTransaction(Transaction.Type.READ_WRITE, emptySet());
         } else {
@@ -60,63 +62,63 @@ public class DefaultTransactionManager implements TransactionManager {
     }
 
     /**
-     * Opens a new TRANSACTION_THREAD_LOCAL against a database instance.
-     * Instantiation of the TRANSACTION_THREAD_LOCAL is left to the driver
+     * Opens a new transaction against a database instance.
+     * Instantiation of the transaction is left to the driver
      *
      * @return a new {@link Transaction}
      */
     public Transaction openTransaction(Transaction.Type type, Iterable<String> bookmarks) {
-        if (TRANSACTION_THREAD_LOCAL.get() == null) {
-            TRANSACTION_THREAD_LOCAL.set(driver.newTransaction(type, bookmarks));
+        if (currentTransaction == null) {
+            currentTransaction = driver.newTransaction(type, bookmarks, this);
         } else {
-            ((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get()).extend(type);
+            ((AbstractTransaction) currentTransaction).extend(type);
         }
-        return TRANSACTION_THREAD_LOCAL.get();
+        return currentTransaction;
     }
 
     /**
-     * Rolls back the specified TRANSACTION_THREAD_LOCAL.
-     * The actual job of rolling back the TRANSACTION_THREAD_LOCAL is left to the relevant driver. if
-     * this is successful, the TRANSACTION_THREAD_LOCAL is detached from this thread. Any new objects
+     * Rolls back the specified transaction.
+     * The actual job of rolling back the transaction is left to the relevant driver. if
+     * this is successful, the transaction is detached from this session. Any new objects
      * are reset in the session, so that their ids are reset to null.
-     * If the specified TRANSACTION_THREAD_LOCAL is not the correct one for this thread, throws an exception
+     * If the specified transaction is not the current one of this session, throws an exception
      *
-     * @param transaction the TRANSACTION_THREAD_LOCAL to rollback
+     * @param transaction the transaction to rollback
      */
     public void rollback(Transaction transaction) {
         if (transaction != getCurrentTransaction()) {
-            throw new TransactionManagerException("Transaction is not current for this thread");
+            throw new TransactionManagerException("Transaction is not current for this session");
         }
 
         for (Object object : ((AbstractTransaction) transaction).registeredNew()) {
             ((Neo4jSession) session).context().reset(object);
         }
 
-        TRANSACTION_THREAD_LOCAL.remove();
+        currentTransaction = null;
     }
 
     /**
-     * Commits the specified TRANSACTION_THREAD_LOCAL.
-     * The actual job of committing the TRANSACTION_THREAD_LOCAL is left to the relevant driver. if
-     * this is successful, the TRANSACTION_THREAD_LOCAL is detached from this thread.
-     * If the specified TRANSACTION_THREAD_LOCAL is not the correct one for this thread, throws an exception
+     * Commits the specified transaction.
+     * The actual job of committing the transaction is left to the relevant driver. if
+     * this is successful, the transaction is detached from this session.
+     * If the specified transaction is not the current one of this session, throws an exception
      *
-     * @param tx the TRANSACTION_THREAD_LOCAL to commit
+     * @param tx the transaction to commit
      */
     public void commit(Transaction tx) {
         if (tx != getCurrentTransaction()) {
-            throw new TransactionManagerException("Transaction is not current for this thread");
+            throw new TransactionManagerException("Transaction is not current for this session");
         }
-        TRANSACTION_THREAD_LOCAL.remove();
+        currentTransaction = null;
     }
 
     /**
-     * Returns the current TRANSACTION_THREAD_LOCAL for this thread, or null if none exists
+     * Returns the current transaction of this session, or null if none exists
      *
-     * @return this thread's TRANSACTION_THREAD_LOCAL
+     * @return this session's transaction
      */
     public Transaction getCurrentTransaction() {
-        return TRANSACTION_THREAD_LOCAL.get();
+        return currentTransaction;
     }
 
     public boolean canCommit() {
@@ -161,10 +163,10 @@ public class DefaultTransactionManager implements TransactionManager {
     // this is for testing purposes only
     public void reinstate(AbstractTransaction tx) {
         tx.reOpen();
-        TRANSACTION_THREAD_LOCAL.set(tx);
+        currentTransaction = tx;
     }
 
     public void clear() {
-        TRANSACTION_THREAD_LOCAL.remove();
+        currentTransaction = null;
     }
 }
@@ -34,6 +34,7 @@ import org.neo4j.ogm.drivers.embedded.transaction.EmbeddedTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,10 +106,15 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
 
     @Override
     public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        return newTransaction(type, bookmarks, transactionManager);
+    }
+
+    @Override
+    public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks, TransactionManager transactionManager) {
         if (bookmarks != null && bookmarks.iterator().hasNext()) {
             logger.warn("Passing bookmarks {} to EmbeddedDriver. This is not currently supported.", bookmarks);
         }
-        return new EmbeddedTransaction(transactionManager, nativeTransaction(), type);
+        return new EmbeddedTransaction(transactionManager, nativeTransaction(transactionManager), type);
     }
 
     @Override
@@ -127,10 +133,15 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
-        return new EmbeddedRequest(graphDatabaseService, transactionManager);
+        return request(transactionManager);
+    }
+
+    @Override
+    public Request request(TransactionManager transactionManager) {
+        return new EmbeddedRequest(graphDatabaseService, transactionManager, parameterConversion, queryLogger);
     }
 
-    private org.neo4j.graphdb.Transaction nativeTransaction() {
+    private org.neo4j.graphdb.Transaction nativeTransaction(TransactionManager transactionManager) {
 
         org.neo4j.graphdb.Transaction nativeTransaction;
 
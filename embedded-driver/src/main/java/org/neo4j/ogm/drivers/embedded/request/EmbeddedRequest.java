@@ -14,16 +14,15 @@
 package org.neo4j.ogm.drivers.embedded.request;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.graphdb.Result;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.DirectParameterConversion;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.driver.QueryLogger;
 import org.neo4j.ogm.drivers.embedded.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.GraphRowModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.RestModelResponse;
@@ -48,18 +47,27 @@ import org.slf4j.LoggerFactory;
  */
 public class EmbeddedRequest implements Request {
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-
     private final GraphDatabaseService graphDatabaseService;
     private final Logger logger = LoggerFactory.getLogger(EmbeddedRequest.class);
     private final TransactionManager transactionManager;
-
-    private final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
+    private final ParameterConversion parameterConversion;
+    private final QueryLogger queryLogger;
 
     public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager) {
+        this(graphDatabaseService, transactionManager, DirectParameterConversion.INSTANCE);
+    }
+
+    public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager,
+        ParameterConversion parameterConversion) {
+        this(graphDatabaseService, transactionManager, parameterConversion, QueryLogger.DEFAULT);
+    }
+
+    public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager,
+        ParameterConversion parameterConversion, QueryLogger queryLogger) {
         this.graphDatabaseService = graphDatabaseService;
         this.transactionManager = transactionManager;
+        this.parameterConversion = parameterConversion;
+        this.queryLogger = queryLogger.withLogger(logger);
     }
 
     @Override
@@ -83,8 +91,10 @@ public class EmbeddedRequest implements Request {
         //TODO this is a hack to get the embedded driver to work with executing multiple statements
         final List<RowModel> rowmodels = new ArrayList<>();
         String[] columns = null;
+        // the statements of a request are logged, or not, together
+        boolean logged = queryLogger.isEnabled();
         for (Statement statement : query.getStatements()) {
-            Result result = executeRequest(statement);
+            Result result = executeRequest(statement, logged);
             if (columns == null) {
                 columns = result.columns().toArray(new String[result.columns().size()]);
             }
@@ -145,12 +155,18 @@ public class EmbeddedRequest implements Request {
     }
 
     private Result executeRequest(Statement statement) {
+        return executeRequest(statement, queryLogger.isEnabled());
+    }
+
+    private Result executeRequest(Statement statement, boolean logged) {
 
         try {
             String cypher = statement.getStatement();
 
-            Map<String, Object> parameterMap = mapper.convertValue(statement.getParameters(), MAP_TYPE_REF);
-            logger.info("Request: {} with params {}", cypher, parameterMap);
+            Map<String, Object> parameterMap = parameterConversion.convertParameters(statement.getParameters());
+            if (logged) {
+                queryLogger.log(cypher, parameterMap);
+            }
 
             // If we don't have a current transactional context for this operation
             // we must create one, and mark the transaction as autoCommit. This will ensure the
@@ -45,6 +45,7 @@ import org.neo4j.ogm.request.DefaultRequest;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,7 +73,7 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         if (config.getVerifyConnection()) {
             httpClient();
 
-            HttpRequest request = new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), true);
+            HttpRequest request = new HttpRequest(httpClient(), requestUrl(transactionManager), configuration.getCredentials(), true);
             request.execute(new VerifyRequest());
         }
     }
@@ -91,16 +92,28 @@ public final class HttpDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
+        return request(transactionManager);
+    }
+
+    @Override
+    public Request request(TransactionManager transactionManager) {
         Transaction tx = transactionManager.getCurrentTransaction();
         if (tx == null) {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials());
+            return new HttpRequest(httpClient(), requestUrl(transactionManager), configuration.getCredentials(), false,
+                configuration.getHttpResponseStreaming(), queryLogger);
         } else {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), tx.isReadOnly());
+            return new HttpRequest(httpClient(), requestUrl(transactionManager), configuration.getCredentials(), tx.isReadOnly(),
+                configuration.getHttpResponseStreaming(), queryLogger);
         }
     }
 
     @Override
     public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        return newTransaction(type, bookmarks, transactionManager);
+    }
+
+    @Override
+    public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks, TransactionManager transactionManager) {
         if (bookmarks != null && bookmarks.iterator().hasNext()) {
             LOGGER.warn("Passing bookmarks {} to HttpDriver. This is not currently supported.", bookmarks);
         }
@@ -161,7 +174,7 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         return url + "db/data/transaction";
     }
 
-    private String requestUrl() {
+    private String requestUrl(TransactionManager transactionManager) {
         if (transactionManager != null) {
             Transaction tx = transactionManager.getCurrentTransaction();
             if (tx != null) {
@@ -36,6 +36,7 @@ import org.apache.http.protocol.HTTP;
 import org.apache.http.util.EntityUtils;
 import org.neo4j.ogm.config.Credentials;
 import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.QueryLogger;
 import org.neo4j.ogm.drivers.http.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.http.response.GraphRowsModelResponse;
 import org.neo4j.ogm.drivers.http.response.RestModelResponse;
@@ -66,16 +67,33 @@ public class HttpRequest implements Request {
     private final CloseableHttpClient httpClient;
     private final Credentials credentials;
     private final boolean readOnly;
+    private final boolean streaming;
+    private final QueryLogger queryLogger;
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials) {
         this(httpClient, url, credentials, false);
     }
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly) {
+        this(httpClient, url, credentials, readOnly, false);
+    }
+
+    /**
+     * @param streaming if graph and row responses are parsed while they are read rather than read into memory first,
+     * see {@link org.neo4j.ogm.drivers.http.response.AbstractHttpResponse}
+     */
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly, boolean streaming) {
+        this(httpClient, url, credentials, readOnly, streaming, QueryLogger.DEFAULT);
+    }
+
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly, boolean streaming,
+        QueryLogger queryLogger) {
         this.httpClient = httpClient;
         this.url = url;
         this.credentials = credentials;
         this.readOnly = readOnly;
+        this.streaming = streaming;
+        this.queryLogger = queryLogger.withLogger(LOGGER);
     }
 
     @Override
@@ -84,7 +102,7 @@ public class HttpRequest implements Request {
             return new EmptyResponse();
         } else {
             String cypher = cypherRequest(request);
-            return new GraphModelResponse(executeRequest(cypher));
+            return new GraphModelResponse(executeRequest(cypher), streaming);
         }
     }
 
@@ -94,15 +112,20 @@ public class HttpRequest implements Request {
             return new EmptyResponse();
         } else {
             String cypher = cypherRequest(request);
-            return new RowModelResponse(executeRequest(cypher));
+            return new RowModelResponse(executeRequest(cypher), streaming);
         }
     }
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
+        if (queryLogger.isEnabled()) {
+            for (Statement statement : query.getStatements()) {
+                queryLogger.log(statement.getStatement(), statement.getParameters());
+            }
+        }
         Statements statements = new Statements(query.getStatements());
         String cypher = cypherRequest(statements);
-        return new RowModelResponse(executeRequest(cypher));
+        return new RowModelResponse(executeRequest(cypher), streaming);
     }
 
     @Override
@@ -111,7 +134,7 @@ public class HttpRequest implements Request {
             return new EmptyResponse();
         } else {
             String cypher = cypherRequest(request);
-            return new GraphRowsModelResponse(executeRequest(cypher));
+            return new GraphRowsModelResponse(executeRequest(cypher), streaming);
         }
     }
 
@@ -130,6 +153,9 @@ public class HttpRequest implements Request {
     // this driver is the only one that needs to do this, because the request format
     // is different for each type of request - GraphModelRequest/RowModelRequest, etc
     private String cypherRequest(Statement statement) {
+        if (queryLogger.isEnabled()) {
+            queryLogger.log(statement.getStatement(), statement.getParameters());
+        }
         List<Statement> statementList = new ArrayList<>();
         statementList.add(statement);
         try {
@@ -158,7 +184,7 @@ public class HttpRequest implements Request {
         request.setEntity(new StringEntity(cypher, "UTF-8"));
         request.setHeader("X-WRITE", readOnly ? "0" : "1");
 
-        LOGGER.info("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, cypher);
+        LOGGER.debug("Thread: {}, url: {}", Thread.currentThread().getId(), url);
 
         return execute(httpClient, request, credentials);
     }
@@ -20,6 +20,7 @@ import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,35 +28,68 @@ import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.neo4j.ogm.config.ObjectMapperFactory;
 import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.response.model.QueryStatisticsModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Reads the records of a response of the transactional HTTP endpoint.
+ * <p>
+ * By default the whole response is read into memory when the response is created, and the connection released straight
+ * away, so errors are reported before any record is read.
+ * <p>
+ * In streaming mode the records are parsed from the connection as they are read, so only one record is held in
+ * memory at a time. Columns and statistics are known once the parser has gone past them, and errors, which follow
+ * the results, are reported when the stream is drained: either by reading past the last record, or by closing the
+ * response, which skips any remaining records. The connection is held until then.
+ *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class AbstractHttpResponse<T> {
 
+    // depth of the fields of the response object, and of the fields of a statement result
+    private static final int RESPONSE_DEPTH = 1;
+    private static final int RESULT_DEPTH = 3;
+
     private final InputStream results;
-    private final JsonParser bufferParser;
+    private final JsonParser parser;
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-    private final TokenBuffer buffer;
     private final Class<T> resultClass;
     private final CloseableHttpResponse httpResponse;
+    private final boolean streaming;
 
     private String[] columns;
     private QueryStatistics queryStatistics;
     private JsonNode responseNode;
+    private boolean released;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpResponse.class);
 
     public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
+        this(httpResponse, resultClass, false);
+    }
+
+    public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass, boolean streaming) {
 
         this.resultClass = resultClass;
+        this.streaming = streaming;
+        this.httpResponse = httpResponse;
+        if (streaming) {
+            try {
+                this.results = httpResponse.getEntity().getContent();
+                this.parser = ObjectMapperFactory.jsonFactory().createParser(results);
+            } catch (IOException ioException) {
+                release();
+                throw new RuntimeException(ioException);
+            }
+            return;
+        }
+
+        TokenBuffer buffer;
         try {
-            this.httpResponse = httpResponse;
             this.results = httpResponse.getEntity().getContent();
             JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results);
             buffer = new TokenBuffer(parser);
@@ -63,23 +97,20 @@ public abstract class AbstractHttpResponse<T> {
             //This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
             parser.nextToken();
             buffer.copyCurrentStructure(parser);
-            bufferParser = buffer.asParser();
+            this.parser = buffer.asParser();
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
         } finally {
-            close(); //We are done with the InputStream
+            release(); //We are done with the InputStream
         }
-        initialise();
+        initialise(buffer);
     }
 
-    private void initialise() {
+    private void initialise(TokenBuffer buffer) {
         try {
             responseNode = mapper.readTree(buffer.asParser());
             JsonNode errors = responseNode.findValue("errors");
-            if (errors.elements().hasNext()) {
-                JsonNode errorNode = errors.elements().next();
-                throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
-            }
+            checkErrors(errors);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -88,27 +119,44 @@ public abstract class AbstractHttpResponse<T> {
     public T nextDataRecord(String key) {
         JsonToken token;
         try {
-            while ((token = bufferParser.nextToken()) != null) {
+            while ((token = parser.nextToken()) != null) {
                 if (JsonToken.FIELD_NAME.equals(token)) {
-                    if (key.equals(bufferParser.getCurrentName())) {
-                        return mapper.readValue(bufferParser, resultClass);
+                    if (key.equals(parser.getCurrentName())) {
+                        return mapper.readValue(parser, resultClass);
+                    }
+                    if (streaming) {
+                        readResponseField();
                     }
                 }
             }
+        } catch (CypherException e) {
+            throw e;
         } catch (IOException e) {
+            if (streaming) {
+                release();
+                throw new ResultProcessingException("Could not read response", e);
+            }
             e.printStackTrace();
         }
+        if (streaming) {
+            release();
+        }
         return null;
     }
 
     /**
      * Returns the first set of columns from the JSON response.
      * Note that the current implementation expects that columns be standard across all statements in a Cypher transaction.
+     * In streaming mode, the columns are read ahead of the first record if they have not been read yet.
      *
      * @return the first set of columns from a JSON response
      */
     public String[] columns() {
         if (columns == null) {
+            if (streaming) {
+                readColumns();
+                return columns;
+            }
             List<String> columnsList = new ArrayList<>();
             List<JsonNode> columnsNodes = responseNode.findValues("columns");
             if (columnsNodes != null && columnsNodes.size() > 0) {
@@ -125,11 +173,12 @@ public abstract class AbstractHttpResponse<T> {
 
     /**
      * Extract stats from the response if present
+     * In streaming mode, statistics follow the records of a statement and are only known once those have been read.
      *
      * @return queryStatistics or null if the response does not contain it
      */
     public QueryStatistics statistics() {
-        if (queryStatistics == null) {
+        if (queryStatistics == null && !streaming) {
             List<JsonNode> statsNodes = responseNode.findValues("stats");
             try {
                 if (statsNodes != null && statsNodes.size() > 0) {
@@ -142,10 +191,92 @@ public abstract class AbstractHttpResponse<T> {
         return queryStatistics;
     }
 
-    private void close() {
+    /**
+     * In streaming mode, skips the records not read yet, so errors following them are reported, and releases the
+     * connection. Does nothing otherwise, the connection having been released when the response was read.
+     */
+    protected void drain() {
+        if (!streaming || released) {
+            return;
+        }
+        JsonToken token;
+        try {
+            while ((token = parser.nextToken()) != null) {
+                if (JsonToken.FIELD_NAME.equals(token) && depth() == RESPONSE_DEPTH && "errors".equals(parser.getCurrentName())) {
+                    readResponseField();
+                } else if (token.isStructStart() && depth() > RESPONSE_DEPTH) {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new ResultProcessingException("Could not read response", e);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Reads the value of the current field if it is the columns or statistics of a result, or the errors of the
+     * response. Errors are reported as a {@link CypherException}, after releasing the connection.
+     */
+    private void readResponseField() throws IOException {
+        String name = parser.getCurrentName();
+        int depth = depth();
+        if (depth == RESULT_DEPTH && "columns".equals(name) && columns == null) {
+            parser.nextToken();
+            columns = mapper.readValue(parser, String[].class);
+        } else if (depth == RESULT_DEPTH && "stats".equals(name) && queryStatistics == null) {
+            parser.nextToken();
+            queryStatistics = mapper.readValue(parser, QueryStatisticsModel.class);
+        } else if (depth == RESPONSE_DEPTH && "errors".equals(name)) {
+            parser.nextToken();
+            JsonNode errors = mapper.readTree(parser);
+            if (errors.elements().hasNext()) {
+                release();
+            }
+            checkErrors(errors);
+        }
+    }
+
+    private void readColumns() {
+        JsonToken token;
+        try {
+            while (columns == null && (token = parser.nextToken()) != null) {
+                if (JsonToken.FIELD_NAME.equals(token)) {
+                    readResponseField();
+                }
+            }
+        } catch (IOException e) {
+            release();
+            throw new ResultProcessingException("Could not read response", e);
+        }
+    }
+
+    private int depth() {
+        int depth = 0;
+        for (JsonStreamContext context = parser.getParsingContext(); context != null && !context.inRoot(); context = context.getParent()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static void checkErrors(JsonNode errors) {
+        if (errors.elements().hasNext()) {
+            JsonNode errorNode = errors.elements().next();
+            throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+        }
+    }
+
+    private void release() {
+        if (released) {
+            return;
+        }
+        released = true;
         try {
             LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
-            results.close();
+            if (results != null) {
+                results.close();
+            }
             httpResponse.close();
         } catch (Exception e) {
             throw new RuntimeException(e);
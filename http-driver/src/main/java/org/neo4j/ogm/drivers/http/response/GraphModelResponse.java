@@ -29,6 +29,10 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
         super(httpResponse, ResultGraphModel.class);
     }
 
+    public GraphModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultGraphModel.class, streaming);
+    }
+
     @Override
     public GraphModel next() {
         ResultGraphModel graphModel = nextDataRecord("graph");
@@ -41,6 +45,6 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
 
     @Override
     public void close() {
-        // nothing to do here
+        drain();
     }
 }
@@ -30,6 +30,10 @@ public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowL
         super(httpResponse, ResultGraphRowListModel.class);
     }
 
+    public GraphRowsModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultGraphRowListModel.class, streaming);
+    }
+
     @Override
     public GraphRowListModel next() {
         ResultGraphRowListModel graphRowModel = nextDataRecord("data");
@@ -46,6 +50,6 @@ public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowL
 
     @Override
     public void close() {
-        //Nothing to do, the response has been closed already
+        drain();
     }
 }
@@ -29,6 +29,10 @@ public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> imple
         super(httpResponse, ResultRowModel.class);
     }
 
+    public RowModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultRowModel.class, streaming);
+    }
+
     @Override
     public RowModel next() {
         ResultRowModel rowModel = nextDataRecord("row");
@@ -41,6 +45,6 @@ public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> imple
 
     @Override
     public void close() {
-        //Nothing to do, the response has been closed already
+        drain();
     }
 }
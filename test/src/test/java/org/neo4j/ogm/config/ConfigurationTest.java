@@ -44,6 +44,8 @@ public class ConfigurationTest {
 		builder.trustStrategy("TRUST_SIGNED_CERTIFICATES");
 		builder.trustCertFile("/tmp/cert");
 		builder.connectionLivenessCheckTimeout(1000);
+		builder.mappingContextCapacity(10000);
+		builder.maxRowsPerStatement(500);
 
 		Configuration configuration = builder.build();
 
@@ -58,6 +60,8 @@ public class ConfigurationTest {
 		assertThat(configuration.getTrustStrategy()).isEqualTo("TRUST_SIGNED_CERTIFICATES");
 		assertThat(configuration.getTrustCertFile()).isEqualTo("/tmp/cert");
 		assertThat(configuration.getConnectionLivenessCheckTimeout().intValue()).isEqualTo(1000);
+		assertThat(configuration.getMappingContextCapacity().intValue()).isEqualTo(10000);
+		assertThat(configuration.getMaxRowsPerStatement().intValue()).isEqualTo(500);
 	}
 
 	@Test
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.neo4j.ogm.domain.pizza.Pizza;
+import org.neo4j.ogm.domain.pizza.PizzaCheese;
+import org.neo4j.ogm.domain.pizza.PizzaSeasoning;
+import org.neo4j.ogm.domain.pizza.Topping;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * The mapper caches how edges resolve onto relationship entities and fields, keyed by the relationship type and the
+ * classes at either end. Edges of the same type between other classes must not pick up a cached resolution.
+ */
+public class GraphEntityMapperEdgeResolutionTest {
+
+    private final MetaData metaData = new MetaData("org.neo4j.ogm.domain.pizza");
+
+    @Test
+    public void sameTypeToDifferentClassesShouldResolveToDifferentRelationshipEntities() {
+        GraphEntityMapper mapper = new GraphEntityMapper(metaData, new MappingContext(metaData));
+
+        Pizza first = mapper.map(Pizza.class, response(record(
+                node(1L, "Pizza"), node(2L, "Cheese"), node(3L, "Seasoning"),
+                relationship(10L, "HAS", 1L, 2L), relationship(11L, "HAS", 1L, 3L)))).iterator().next();
+
+        // the second pizza lists its edges the other way round, so each is resolved from what the first one cached
+        Pizza second = mapper.map(Pizza.class, response(record(
+                node(4L, "Pizza"), node(5L, "Seasoning"), node(6L, "Cheese"),
+                relationship(12L, "HAS", 4L, 5L), relationship(13L, "HAS", 4L, 6L)))).iterator().next();
+
+        assertThat(first.getCheeses()).extracting(PizzaCheese::getId).containsOnly(10L);
+        assertThat(first.getCheeses())
+                .extracting(hasCheese -> hasCheese.getCheese().getId()).containsOnly(2L);
+        assertThat(first.getSeasonings()).extracting(PizzaSeasoning::getId).containsOnly(11L);
+        assertThat(first.getSeasonings())
+                .extracting(hasSeasoning -> hasSeasoning.getSeasoning().getId()).containsOnly(3L);
+
+        assertThat(second.getSeasonings()).extracting(PizzaSeasoning::getId).containsOnly(12L);
+        assertThat(second.getSeasonings())
+                .extracting(hasSeasoning -> hasSeasoning.getSeasoning().getId()).containsOnly(5L);
+        assertThat(second.getCheeses()).extracting(PizzaCheese::getId).containsOnly(13L);
+        assertThat(second.getCheeses())
+                .extracting(hasCheese -> hasCheese.getCheese().getId()).containsOnly(6L);
+    }
+
+    @Test
+    public void sameTypeFromDifferentClassesShouldResolveToDifferentWriters() {
+        GraphEntityMapper mapper = new GraphEntityMapper(metaData, new MappingContext(metaData));
+
+        Pizza first = mapper.map(Pizza.class, response(record(
+                node(1L, "Pizza"), node(2L, "Crust"), node(3L, "Topping"), node(4L, "Sauce"),
+                relationship(10L, "FOR", 2L, 1L), relationship(11L, "FOR", 3L, 1L),
+                relationship(12L, "FOR", 4L, 1L)))).iterator().next();
+
+        Pizza second = mapper.map(Pizza.class, response(record(
+                node(5L, "Pizza"), node(6L, "Sauce"), node(7L, "Topping"), node(8L, "Crust"),
+                relationship(13L, "FOR", 6L, 5L), relationship(14L, "FOR", 7L, 5L),
+                relationship(15L, "FOR", 8L, 5L)))).iterator().next();
+
+        assertThat(first.getCrust().getId()).isEqualTo(2L);
+        assertThat(first.getToppings()).extracting(Topping::getId).containsExactly(3L);
+        assertThat(first.getPizzaSauce().getId()).isEqualTo(12L);
+        assertThat(first.getPizzaSauce().getSauce().getId()).isEqualTo(4L);
+
+        assertThat(second.getCrust().getId()).isEqualTo(8L);
+        assertThat(second.getToppings()).extracting(Topping::getId).containsExactly(7L);
+        assertThat(second.getPizzaSauce().getId()).isEqualTo(13L);
+        assertThat(second.getPizzaSauce().getSauce().getId()).isEqualTo(6L);
+    }
+
+    private static NodeModel node(Long id, String label) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[] { label });
+        node.setProperties(Collections.singletonMap("name", label + "-" + id));
+        return node;
+    }
+
+    private static RelationshipModel relationship(Long id, String type, Long startId, Long endId) {
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(startId);
+        relationship.setEndNode(endId);
+        return relationship;
+    }
+
+    private static GraphModel record(Object... nodesAndRelationships) {
+        List<NodeModel> nodes = new ArrayList<>();
+        List<RelationshipModel> relationships = new ArrayList<>();
+        for (Object element : nodesAndRelationships) {
+            if (element instanceof NodeModel) {
+                nodes.add((NodeModel) element);
+            } else {
+                relationships.add((RelationshipModel) element);
+            }
+        }
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.setNodes(nodes.toArray(new NodeModel[0]));
+        graphModel.setRelationships(relationships.toArray(new RelationshipModel[0]));
+        return graphModel;
+    }
+
+    private static Response<GraphModel> response(GraphModel... records) {
+        Iterator<GraphModel> iterator = Arrays.asList(records).iterator();
+        return new Response<GraphModel>() {
+
+            @Override
+            public GraphModel next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[] { "p" };
+            }
+        };
+    }
+}
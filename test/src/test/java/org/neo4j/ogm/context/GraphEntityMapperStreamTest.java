@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static java.util.stream.Collectors.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+public class GraphEntityMapperStreamTest {
+
+    private final MetaData metaData = new MetaData("org.neo4j.ogm.domain.music");
+
+    @Test
+    public void streamOfSingleEntityRecordsShouldNotRememberEntitiesAcrossRecords() {
+        MappingContext mappingContext = new MappingContext(metaData);
+
+        List<Artist> artists = new GraphEntityMapper(metaData, mappingContext)
+                .stream(Artist.class, response(record(artist(1L)), record(artist(2L)), record(artist(1L))), true)
+                .collect(toList());
+
+        // records of a depth 0 load never repeat an entity, so a repeated one isn't recognised
+        assertThat(artists).extracting(Artist::getId).containsExactly(1L, 2L, 1L);
+    }
+
+    @Test
+    public void streamShouldEmitEachEntityOnce() {
+        MappingContext mappingContext = new MappingContext(metaData);
+
+        List<Artist> artists = new GraphEntityMapper(metaData, mappingContext)
+                .stream(Artist.class, response(record(artist(1L)), record(artist(2L)), record(artist(1L))))
+                .collect(toList());
+
+        assertThat(artists).extracting(Artist::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void streamShouldHydrateRootSpreadOverRecordsWhenContextIsBounded() {
+        MappingContext mappingContext = new MappingContext(metaData, 1);
+
+        List<Artist> artists = new GraphEntityMapper(metaData, mappingContext)
+                .stream(Artist.class, response(
+                        record(artist(1L), album(10L), hasAlbum(100L, 1L, 10L)),
+                        record(artist(1L), album(11L), hasAlbum(101L, 1L, 11L)),
+                        record(artist(1L), album(12L), hasAlbum(102L, 1L, 12L))))
+                .collect(toList());
+
+        assertThat(artists).hasSize(1);
+        assertThat(artists.get(0).getAlbums()).extracting(Album::getId).containsOnly(10L, 11L, 12L);
+    }
+
+    @Test
+    public void streamShouldCompleteHandedOutEntityWhoseRecordsAreSpreadOverResponse() {
+        MappingContext mappingContext = new MappingContext(metaData, 1, false);
+
+        List<Artist> artists = new GraphEntityMapper(metaData, mappingContext)
+                .stream(Artist.class, response(
+                        record(artist(1L), album(10L), hasAlbum(100L, 1L, 10L)),
+                        record(artist(2L), album(11L), hasAlbum(101L, 2L, 11L)),
+                        record(artist(1L), album(12L), hasAlbum(102L, 1L, 12L))))
+                .collect(toList());
+
+        assertThat(artists).extracting(Artist::getId).containsExactly(1L, 2L);
+        assertThat(artists.get(0).getAlbums()).extracting(Album::getId).containsOnly(10L, 12L);
+        assertThat(artists.get(1).getAlbums()).extracting(Album::getId).containsOnly(11L);
+    }
+
+    @Test
+    public void closingStreamShouldReleaseHandedOutEntities() {
+        MappingContext mappingContext = new MappingContext(metaData, 1, false);
+
+        Stream<Artist> stream = new GraphEntityMapper(metaData, mappingContext)
+                .stream(Artist.class, response(record(artist(1L)), record(artist(2L)), record(artist(3L))));
+        List<Artist> artists = stream.collect(toList());
+
+        // exhausting the stream closes it
+        assertThat(artists).hasSize(3);
+        assertThat(mappingContext.getEntities(Artist.class)).hasSize(1);
+    }
+
+    private static NodeModel artist(Long id) {
+        return node(id, "l'artiste");
+    }
+
+    private static NodeModel album(Long id) {
+        return node(id, "l'album");
+    }
+
+    private static NodeModel node(Long id, String label) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[] { label });
+        node.setProperties(Collections.singletonMap("name", label + "-" + id));
+        return node;
+    }
+
+    private static RelationshipModel hasAlbum(Long id, Long artistId, Long albumId) {
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType("HAS-ALBUM");
+        relationship.setStartNode(artistId);
+        relationship.setEndNode(albumId);
+        return relationship;
+    }
+
+    private static GraphModel record(Object... nodesAndRelationships) {
+        List<NodeModel> nodes = new ArrayList<>();
+        List<RelationshipModel> relationships = new ArrayList<>();
+        for (Object element : nodesAndRelationships) {
+            if (element instanceof NodeModel) {
+                nodes.add((NodeModel) element);
+            } else {
+                relationships.add((RelationshipModel) element);
+            }
+        }
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.setNodes(nodes.toArray(new NodeModel[0]));
+        graphModel.setRelationships(relationships.toArray(new RelationshipModel[0]));
+        return graphModel;
+    }
+
+    private static Response<GraphModel> response(GraphModel... records) {
+        Iterator<GraphModel> iterator = Arrays.asList(records).iterator();
+        return new Response<GraphModel>() {
+
+            @Override
+            public GraphModel next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[] { "p" };
+            }
+        };
+    }
+}
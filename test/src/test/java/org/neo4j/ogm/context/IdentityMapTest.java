@@ -19,6 +19,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.School;
 import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 
 /**
@@ -29,9 +32,13 @@ public class IdentityMapTest {
     private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.education");
     private static final MappingContext mappingContext = new MappingContext(metaData);
 
+    private static final MetaData socialMetaData = new MetaData("org.neo4j.ogm.domain.social");
+    private static final MappingContext socialMappingContext = new MappingContext(socialMetaData);
+
     @Before
     public void setUp() {
         mappingContext.clear();
+        socialMappingContext.clear();
     }
 
     @Test
@@ -65,4 +72,69 @@ public class IdentityMapTest {
 
         assertThat(mappingContext.isDirty(teacher)).isFalse();
     }
+
+    @Test
+    public void testChangedPrimitivePropertyDetected() {
+        Individual individual = new Individual();
+        individual.setId(116L);
+        individual.setAge(40);
+        individual.setBankBalance(100.5f);
+        socialMappingContext.addNodeEntity(individual);
+        assertThat(socialMappingContext.isDirty(individual)).isFalse();
+
+        individual.setBankBalance(100.25f);
+        assertThat(socialMappingContext.isDirty(individual)).isTrue();
+    }
+
+    @Test
+    public void testOnlyChangedPropertiesAreDirty() {
+        Individual individual = new Individual();
+        individual.setId(118L);
+        individual.setName("Adam");
+        individual.setAge(40);
+        socialMappingContext.addNodeEntity(individual);
+        assertThat(socialMappingContext.dirtyPropertyFields(individual)).isEmpty();
+
+        individual.setAge(41);
+        individual.setName(null);
+        assertThat(socialMappingContext.dirtyPropertyFields(individual))
+                .extracting(FieldInfo::getName).containsOnly("name", "age");
+    }
+
+    @Test
+    public void testAllPropertiesOfNewObjectsAreDirty() {
+        Individual individual = new Individual();
+        individual.setId(119L);
+
+        ClassInfo classInfo = socialMetaData.classInfo(individual);
+        assertThat(socialMappingContext.dirtyPropertyFields(individual))
+                .containsOnlyElementsOf(classInfo.propertyFields())
+                .hasSameSizeAs(classInfo.propertyFields());
+    }
+
+    @Test
+    public void testDirtyCheckPlanIsSharedByMappingContexts() {
+        Teacher teacher = new Teacher("Miss White");
+        teacher.setId(115L);
+        ClassInfo classInfo = metaData.classInfo(teacher);
+
+        mappingContext.addNodeEntity(teacher);
+        MappingContext otherContext = new MappingContext(metaData);
+        otherContext.addNodeEntity(teacher);
+
+        assertThat(otherContext.isDirty(teacher)).isFalse();
+        assertThat(classInfo.getDirtyCheckPlan()).isSameAs(metaData.classInfo(teacher).getDirtyCheckPlan());
+    }
+
+    @Test
+    public void testChangedPrimitiveArrayElementDetected() {
+        Individual individual = new Individual();
+        individual.setId(117L);
+        individual.setPrimitiveIntArray(new int[]{1, 2, 3});
+        socialMappingContext.addNodeEntity(individual);
+        assertThat(socialMappingContext.isDirty(individual)).isFalse();
+
+        individual.getPrimitiveIntArray()[1] = 5;
+        assertThat(socialMappingContext.isDirty(individual)).isTrue();
+    }
 }
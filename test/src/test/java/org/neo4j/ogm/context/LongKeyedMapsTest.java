@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class LongKeyedMapsTest {
+
+    @Test
+    public void objectMapShouldBehaveLikeHashMap() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+            } else {
+                long value = random.nextLong();
+                assertThat(map.put(key, value)).isEqualTo(reference.put(key, value));
+            }
+            assertThat(map.size()).isEqualTo(reference.size());
+        }
+        for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+            assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+        assertThat(map.values()).containsOnlyElementsOf(reference.values()).hasSize(reference.size());
+    }
+
+    @Test
+    public void longMapShouldBehaveLikeHashMap() {
+        LongLongMap map = new LongLongMap();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(5_000) - 2_500) * (1L << random.nextInt(40));
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key) != null);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                reference.put(key, value);
+            }
+            assertThat(map.size()).isEqualTo(reference.size());
+        }
+        for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+            assertThat(map.containsKey(entry.getKey())).isTrue();
+            assertThat(map.getOrDefault(entry.getKey(), 0L)).isEqualTo(entry.getValue());
+        }
+    }
+
+    @Test
+    public void longSetShouldBehaveLikeHashSet() {
+        LongSet set = new LongSet();
+        Set<Long> reference = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextInt(5_000) - 2_500) * (1L << random.nextInt(40));
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(reference.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(reference.add(value));
+            }
+            assertThat(set.size()).isEqualTo(reference.size());
+        }
+        for (Long value : reference) {
+            assertThat(set.contains(value)).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldRemoveMatchingValues() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (long id = -10; id < 10; id++) {
+            map.put(id, id % 2 == 0 ? "even" : "odd");
+        }
+
+        assertThat(map.removeIf("odd"::equals)).hasSize(10);
+
+        assertThat(map.size()).isEqualTo(10);
+        assertThat(map.values()).containsOnly("even");
+        assertThat(map.get(3L)).isNull();
+        assertThat(map.get(4L)).isEqualTo("even");
+    }
+
+    @Test
+    public void shouldBeReusableAfterClear() {
+        LongLongMap map = new LongLongMap();
+        map.put(1L, 10L);
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(1L)).isFalse();
+
+        map.put(1L, 20L);
+        assertThat(map.getOrDefault(1L, 0L)).isEqualTo(20L);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class MappableRegisterTest {
+
+    @Test
+    public void shouldIndexRelationshipsByStartAndEndNode() {
+        MappableRegister<MappedRelationship> register = new MappableRegister<>();
+        MappedRelationship knows = new MappedRelationship(1L, "KNOWS", 2L, Object.class, Object.class);
+        MappedRelationship likes = new MappedRelationship(2L, "LIKES", 1L, Object.class, Object.class);
+        MappedRelationship self = new MappedRelationship(3L, "LIKES", 3L, Object.class, Object.class);
+
+        register.add(knows);
+        register.add(likes);
+        register.add(self);
+
+        assertThat(register.outgoing(1L)).containsOnly(knows);
+        assertThat(register.incoming(1L)).containsOnly(likes);
+        assertThat(register.relationshipsOf(2L)).containsOnly(knows, likes);
+        assertThat(register.relationshipsOf(3L)).containsOnly(self);
+        assertThat(register.outgoing(4L)).isEmpty();
+
+        register.remove(new MappedRelationship(1L, "KNOWS", 2L, Object.class, Object.class));
+
+        assertThat(register.outgoing(1L)).isEmpty();
+        assertThat(register.relationshipsOf(2L)).containsOnly(likes);
+    }
+
+    @Test
+    public void shouldKeepIndexConsistentWithContents() {
+        MappableRegister<MappedRelationship> register = new MappableRegister<>();
+        Set<MappedRelationship> reference = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            MappedRelationship relationship = new MappedRelationship(random.nextInt(50), "R" + random.nextInt(3),
+                random.nextInt(50), Object.class, Object.class);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertThat(register.remove(relationship)).isEqualTo(reference.remove(relationship));
+                    break;
+                case 1:
+                    Iterator<MappedRelationship> iterator = register.iterator();
+                    if (iterator.hasNext()) {
+                        reference.remove(iterator.next());
+                        iterator.remove();
+                    }
+                    break;
+                default:
+                    assertThat(register.add(relationship)).isEqualTo(reference.add(relationship));
+            }
+        }
+
+        assertThat(register).containsOnlyElementsOf(reference).hasSize(reference.size());
+        for (long nodeId = 0; nodeId < 50; nodeId++) {
+            long id = nodeId;
+            assertThat(register.outgoing(id)).containsOnlyElementsOf(
+                reference.stream().filter(r -> r.getStartNodeId() == id).collect(Collectors.toSet()))
+                .hasSize((int) reference.stream().filter(r -> r.getStartNodeId() == id).count());
+            assertThat(register.incoming(id)).containsOnlyElementsOf(
+                reference.stream().filter(r -> r.getEndNodeId() == id).collect(Collectors.toSet()))
+                .hasSize((int) reference.stream().filter(r -> r.getEndNodeId() == id).count());
+        }
+
+        register.clear();
+        assertThat(register).isEmpty();
+        assertThat(register.relationshipsOf(0L)).isEmpty();
+    }
+}
@@ -15,13 +15,22 @@ package org.neo4j.ogm.context;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
 import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
 import org.neo4j.ogm.domain.policy.Person;
 import org.neo4j.ogm.domain.policy.Policy;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
 
 /**
  * @author Vince Bickers
@@ -161,4 +170,227 @@ public class MappingContextTest {
         assertThat(mappingContext.isDirty(healthcare)).isFalse();
         assertThat(mappingContext.isDirty(immigration)).isFalse();
     }
+
+    @Test
+    public void nonTrackingContextShouldOnlyKeepIdentity() {
+        MappingContext context = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy"), 0, false);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+
+        context.addNodeEntity(jim);
+        context.addNodeEntity(policy);
+        context.addRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), Person.class, Policy.class));
+
+        assertThat(context.isTracking()).isFalse();
+        assertThat(context.getNodeEntity(jim.getId())).isSameAs(jim);
+        assertThat(context.getNodeEntity(policy.getId())).isSameAs(policy);
+        assertThat(context.getRelationships()).isEmpty();
+        assertThat(context.isDirty(jim)).isTrue();
+    }
+
+    @Test
+    public void boundedContextShouldEvictLeastRecentlyUsedEntities() {
+        MappingContext boundedContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy"), 2);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Person mary = new Person("mary");
+        mary.setId(3L);
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+
+        boundedContext.addNodeEntity(jim);
+        boundedContext.addNodeEntity(policy);
+        boundedContext.addRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), Person.class, Policy.class));
+        boundedContext.getNodeEntity(jim.getId()); // jim is now more recently used than the policy
+        boundedContext.addNodeEntity(mary);
+
+        // nothing is evicted until explicitly requested
+        assertThat(boundedContext.containsRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), Person.class, Policy.class))).isTrue();
+
+        boundedContext.evictIfNecessary();
+
+        assertThat(boundedContext.getNodeEntity(policy.getId())).isNull();
+        assertThat(boundedContext.getNodeEntity(jim.getId())).isEqualTo(jim);
+        assertThat(boundedContext.getNodeEntity(mary.getId())).isEqualTo(mary);
+        // jim is still registered, so his relationship to the evicted policy is still known
+        assertThat(boundedContext.containsRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), Person.class, Policy.class))).isTrue();
+        assertThat(boundedContext.isDirty(policy)).isTrue();
+    }
+
+    @Test
+    public void unboundedContextShouldNotEvict() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        mappingContext.addNodeEntity(jim);
+
+        mappingContext.evictIfNecessary();
+
+        assertThat(mappingContext.isBounded()).isFalse();
+        assertThat(mappingContext.getNodeEntity(jim.getId())).isEqualTo(jim);
+    }
+
+    @Test
+    public void boundedContextShouldNotEvictRetainedEntities() {
+        MappingContext boundedContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy"), 1);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+
+        boundedContext.addNodeEntity(jim);
+        boundedContext.addNodeEntity(policy);
+
+        boundedContext.evictIfNecessary(Collections.singletonList(jim));
+
+        assertThat(boundedContext.getNodeEntity(jim.getId())).isEqualTo(jim);
+        assertThat(boundedContext.getNodeEntity(policy.getId())).isNull();
+    }
+
+    @Test
+    public void evictingRelationshipEntityShouldKeepItsStartAndEndNodes() {
+        MappingContext boundedContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.cineasts.annotated"), 2);
+
+        User user = new User();
+        user.setId(1L);
+        Movie movie = new Movie();
+        movie.setId(2L);
+        boundedContext.addNodeEntity(user);
+        boundedContext.addNodeEntity(movie);
+
+        Rating first = rating(10L, user, movie);
+        Rating second = rating(11L, user, movie);
+        Rating third = rating(12L, user, movie);
+        boundedContext.addRelationshipEntity(first, first.getId());
+        boundedContext.addRelationshipEntity(second, second.getId());
+        boundedContext.addRelationshipEntity(third, third.getId());
+
+        boundedContext.evictIfNecessary();
+
+        assertThat(boundedContext.getRelationshipEntity(first.getId())).isNull();
+        assertThat(boundedContext.getRelationshipEntity(second.getId())).isEqualTo(second);
+        assertThat(boundedContext.getRelationshipEntity(third.getId())).isEqualTo(third);
+        assertThat(boundedContext.getNodeEntity(user.getId())).isEqualTo(user);
+        assertThat(boundedContext.getNodeEntity(movie.getId())).isEqualTo(movie);
+    }
+
+    @Test
+    public void evictingNodeEntityShouldOnlyDropRelationshipsWithNoRegisteredEnd() {
+        MappingContext boundedContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy"), 1);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+        Policy education = new Policy("education");
+        education.setId(3L);
+
+        boundedContext.addNodeEntity(jim);
+        boundedContext.addNodeEntity(healthcare);
+        boundedContext.addNodeEntity(education);
+        MappedRelationship jimHealthcare = new MappedRelationship(jim.getId(), "WRITES_POLICY", healthcare.getId(), Person.class, Policy.class);
+        MappedRelationship healthcareEducation = new MappedRelationship(healthcare.getId(), "INFLUENCES", education.getId(), Policy.class, Policy.class);
+        boundedContext.addRelationship(jimHealthcare);
+        boundedContext.addRelationship(healthcareEducation);
+
+        boundedContext.evictIfNecessary(Collections.singletonList(jim));
+
+        assertThat(boundedContext.getNodeEntity(jim.getId())).isSameAs(jim);
+        assertThat(boundedContext.getNodeEntity(healthcare.getId())).isNull();
+        assertThat(boundedContext.getNodeEntity(education.getId())).isNull();
+        assertThat(boundedContext.containsRelationship(jimHealthcare)).isTrue();
+        assertThat(boundedContext.containsRelationship(healthcareEducation)).isFalse();
+    }
+
+    @Test
+    public void relationshipToEvictedEntityShouldBeDeletedWhenRemovedFromRetainedEntity() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        MappingContext boundedContext = new MappingContext(metaData, 1);
+
+        // as loaded: jim writes two policies
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+        Policy education = new Policy("education");
+        education.setId(3L);
+        jim.getWritten().add(healthcare);
+        jim.getWritten().add(education);
+        healthcare.getWriters().add(jim);
+        education.getWriters().add(jim);
+
+        boundedContext.addNodeEntity(jim);
+        boundedContext.addNodeEntity(healthcare);
+        boundedContext.addNodeEntity(education);
+        boundedContext.addRelationship(new MappedRelationship(jim.getId(), "WRITES_POLICY", healthcare.getId(), Person.class, Policy.class));
+        boundedContext.addRelationship(new MappedRelationship(jim.getId(), "WRITES_POLICY", education.getId(), Person.class, Policy.class));
+
+        // only the root of the load is retained, the policies are evicted
+        boundedContext.evictIfNecessary(Collections.singletonList(jim));
+        assertThat(boundedContext.getNodeEntity(education.getId())).isNull();
+
+        jim.getWritten().remove(education);
+        education.getWriters().remove(jim);
+
+        Compiler compiler = new EntityGraphMapper(metaData, boundedContext).map(jim).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        List<Statement> deleteRelsStatements = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatements).extracting(Statement::getStatement).containsOnly(
+                "UNWIND {rows} as row MATCH (startNode) WHERE ID(startNode) = row.startNodeId MATCH (endNode) WHERE ID(endNode) = row.endNodeId MATCH (startNode)-[rel:`WRITES_POLICY`]->(endNode) DELETE rel"
+        );
+        List rows = (List) deleteRelsStatements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat(((Map) rows.get(0)).get("endNodeId")).isEqualTo(education.getId());
+    }
+
+    @Test
+    public void nextChunkContextShouldNotWriteOrTraverseNodesSavedByEarlierChunks() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        MappingContext firstChunk = new MappingContext(metaData);
+
+        // as saved by the first chunk: jim writes healthcare
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+        jim.getWritten().add(healthcare);
+        healthcare.getWriters().add(jim);
+        firstChunk.addNodeEntity(jim);
+        firstChunk.addNodeEntity(healthcare);
+
+        // a later chunk: anne, who is new, also writes healthcare
+        Person anne = new Person("anne");
+        anne.getWritten().add(healthcare);
+        healthcare.getWriters().add(anne);
+
+        MappingContext nextChunk = firstChunk.nextChunkContext();
+        assertThat(nextChunk.getNodeEntity(jim.getId())).isNull();
+
+        EntityGraphMapper mapper = new EntityGraphMapper(metaData, nextChunk);
+        mapper.map(anne);
+        mapper.map(jim);
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        assertThat(compiler.createNodesStatements()).hasSize(1);
+        assertThat(compiler.updateNodesStatements()).isEmpty();
+        List<Statement> createRelsStatements = compiler.createRelationshipsStatements();
+        assertThat(createRelsStatements).hasSize(1);
+        List rows = (List) createRelsStatements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat(((Map) rows.get(0)).get("endNodeId")).isEqualTo(healthcare.getId());
+    }
+
+    private static Rating rating(Long id, User user, Movie movie) {
+        Rating rating = new Rating();
+        rating.setId(id);
+        rating.setUser(user);
+        rating.setMovie(movie);
+        return rating;
+    }
 }
@@ -64,6 +64,48 @@ public class REMappingContextTest {
         assertThat(entity).isNull();
     }
 
+    @Test
+    public void relationshipEntityGivenAnotherEndNodeAndSavedIsDeregisteredWithItsNewEndNode() throws Exception {
+        User from = user(10L);
+        User oldTo = user(11L);
+        User newTo = user(12L);
+        likes.from = from;
+        likes.to = oldTo;
+        context.addRelationshipEntity(likes, 1L);
+
+        likes.to = newTo;
+        context.replaceRelationshipEntity(likes, 1L);
+
+        context.replaceNodeEntity(oldTo, oldTo.id);
+        assertThat(context.getRelationshipEntity(1L)).isSameAs(likes);
+
+        context.replaceNodeEntity(newTo, newTo.id);
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+    }
+
+    @Test
+    public void relationshipEntityGivenAnotherEndNodeAndMappedAgainIsDeregisteredWithItsNewEndNode() throws Exception {
+        User from = user(10L);
+        User oldTo = user(11L);
+        User newTo = user(12L);
+        likes.from = from;
+        likes.to = oldTo;
+        context.addRelationshipEntity(likes, 1L);
+
+        likes.to = newTo;
+        context.addRelationshipEntity(likes, 1L);
+
+        context.replaceNodeEntity(newTo, newTo.id);
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.id = id;
+        context.addNodeEntity(user, id);
+        return user;
+    }
+
     @NodeEntity
     static class User {
 
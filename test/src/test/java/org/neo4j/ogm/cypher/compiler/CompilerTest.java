@@ -149,6 +149,52 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    public void updateOnlyTheChangedPropertiesOfExistingNodes() {
+
+        Individual individual = new Individual();
+        individual.setId(0L);
+        individual.setName("Adam");
+        individual.setAge(30);
+        individual.setPrimitiveIntArray(new int[]{1, 2, 3});
+        mappingContext.addNodeEntity(individual);
+
+        individual.setAge(31);
+
+        Compiler compiler = mapAndCompile(individual);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).extracting(Statement::getStatement).containsOnly(
+                "UNWIND {rows} as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`Individual` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type"
+        );
+        List rows = (List) statements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat(((Map) rows.get(0)).get("props")).isEqualTo(Collections.singletonMap("age", 31));
+    }
+
+    @Test
+    public void splitLargeGroupsOverStatementsOfLimitedRows() {
+
+        List<Student> students = newArrayList();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student("Student " + i));
+        }
+
+        EntityMapper mapper = new EntityGraphMapper(mappingMetadata, mappingContext);
+        for (Student student : students) {
+            mapper.map(student);
+        }
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useMaxRowsPerStatement(2);
+
+        List<Statement> statements = compiler.createNodesStatements();
+        assertThat(statements).extracting(Statement::getStatement).containsOnly(
+                "UNWIND {rows} as row CREATE (n:`DomainObject`:`Student`) SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, row.type as type"
+        );
+        assertThat(statements).extracting(statement -> ((List) statement.getParameters().get("rows")).size())
+                .containsExactly(2, 2, 1);
+    }
+
     @Test
     public void doNothingIfNothingHasChanged() {
 
@@ -508,6 +554,98 @@ public class CompilerTest {
 
     }
 
+    @Test
+    public void shouldKeepKnownRelationshipsRegisteredAgainInTheSameMapping() {
+
+        Long mid = 0L;
+        Long xid = 1L;
+        Long yid = 2L;
+
+        Course music = new Course("GCSE Music");
+        music.setId(mid);
+
+        Student xavier = new Student("xavier");
+        xavier.setId(xid);
+
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(yid);
+
+        music.setStudents(Arrays.asList(xavier, yvonne));
+
+        MappedRelationship musicXavier = new MappedRelationship(mid, "STUDENTS", xid, Course.class, Student.class);
+        MappedRelationship musicYvonne = new MappedRelationship(mid, "STUDENTS", yid, Course.class, Student.class);
+        mappingContext.addRelationship(musicXavier);
+        mappingContext.addRelationship(musicYvonne);
+
+        mappingContext.addNodeEntity(xavier);
+        mappingContext.addNodeEntity(yvonne);
+        mappingContext.addNodeEntity(music);
+
+        music.setStudents(Arrays.asList(yvonne));
+
+        // both known relationships are deregistered when the students are visited, and the one to yvonne is
+        // registered again while the same entity is mapped
+        Compiler compiler = mapAndCompile(music);
+
+        assertThat(compiler.createRelationshipsStatements()).isEmpty();
+        List<Statement> deleteRelsStatements = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatements).hasSize(1);
+        List rows = (List) deleteRelsStatements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat(((Map) rows.get(0)).get("endNodeId")).isEqualTo(xid);
+
+        assertThat(mappingContext.containsRelationship(musicYvonne)).isTrue();
+        assertThat(mappingContext.containsRelationship(musicXavier)).isFalse();
+    }
+
+    @Test
+    public void shouldRemoveKnownRelationshipDeregisteredWhileMappingAnEarlierEntityOfTheSameSave() {
+
+        Long businessStudiesCourseId = 1L;
+        Long designTechnologyCourseId = 2L;
+        Long shivaniId = 3L;
+
+        Course businessStudies = new Course("GNVQ Business Studies");
+        businessStudies.setId(businessStudiesCourseId);
+
+        Course designTech = new Course("GCSE Design & Technology");
+        designTech.setId(designTechnologyCourseId);
+
+        Student shivani = new Student("Shivani");
+        shivani.setId(shivaniId);
+
+        mappingContext.addNodeEntity(businessStudies);
+        mappingContext.addNodeEntity(designTech);
+        mappingContext.addNodeEntity(shivani);
+
+        MappedRelationship businessStudiesShivani = new MappedRelationship(businessStudiesCourseId, "STUDENTS", shivaniId, Course.class, Student.class);
+        mappingContext.addRelationship(businessStudiesShivani);
+
+        businessStudies.setStudents(Collections.emptyList());
+        designTech.setStudents(Arrays.asList(shivani));
+
+        // both courses are mapped by one mapper, as when saving a collection, so they share a compile context
+        EntityMapper mapper = new EntityGraphMapper(mappingMetadata, mappingContext);
+        mapper.map(businessStudies);
+        mapper.map(designTech);
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        List<Statement> deleteRelsStatements = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatements).hasSize(1);
+        List deletedRows = (List) deleteRelsStatements.get(0).getParameters().get("rows");
+        assertThat(deletedRows).hasSize(1);
+        assertThat(((Map) deletedRows.get(0)).get("startNodeId")).isEqualTo(businessStudiesCourseId);
+
+        List<Statement> createRelsStatements = compiler.createRelationshipsStatements();
+        assertThat(createRelsStatements).hasSize(1);
+        List createdRows = (List) createRelsStatements.get(0).getParameters().get("rows");
+        assertThat(createdRows).hasSize(1);
+        assertThat(((Map) createdRows.get(0)).get("startNodeId")).isEqualTo(designTechnologyCourseId);
+
+        assertThat(mappingContext.containsRelationship(businessStudiesShivani)).isFalse();
+    }
+
     @Test
     public void shouldCorrectlyRemoveRelationshipWhenItemIsDisconnectedFromNonOwningSide() {
 
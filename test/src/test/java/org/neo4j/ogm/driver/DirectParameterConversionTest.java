@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import org.junit.Test;
+
+public class DirectParameterConversionTest {
+
+    private final ParameterConversion conversion = DirectParameterConversion.INSTANCE;
+
+    @Test
+    public void shouldConvertLikeDefaultConversion() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("int", 1);
+        parameters.put("short", (short) 2);
+        parameters.put("bigInteger", BigInteger.TEN);
+        parameters.put("long", 3L);
+        parameters.put("double", 1.5d);
+        parameters.put("char", 'c');
+        parameters.put("chars", new char[] {'a', 'b'});
+        parameters.put("ints", new int[] {1, 2});
+        parameters.put("strings", new String[] {"a", "b"});
+        parameters.put("set", new TreeSet<>(Arrays.asList(1, 2)));
+        parameters.put("enum", Thread.State.NEW);
+        parameters.put("date", new Date(1000L));
+        parameters.put("uuid", UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        parameters.put("map", Collections.singletonMap(1, Arrays.asList(1, "a", null)));
+        parameters.put("bean", new Bean());
+        parameters.put("null", null);
+
+        assertThat(conversion.convertParameters(parameters))
+            .isEqualTo(DefaultParameterConversion.INSTANCE.convertParameters(parameters));
+    }
+
+    @Test
+    public void shouldPassByteArraysUnchanged() {
+        byte[] bytes = {1, 2, 3};
+
+        assertThat(conversion.convertParameters(Collections.singletonMap("bytes", bytes)).get("bytes")).isSameAs(bytes);
+    }
+
+    @Test
+    public void shouldNotCopyParametersWithoutValuesToConvert() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", -i);
+            row.put("props", Collections.singletonMap("name", "name " + i));
+            rows.add(row);
+        }
+        Map<String, Object> parameters = Collections.singletonMap("rows", rows);
+
+        assertThat(conversion.convertParameters(parameters)).isSameAs(parameters);
+    }
+
+    @Test
+    public void shouldCopyOnlyRowsWithValuesToConvert() {
+        Map<String, Object> unchanged = Collections.singletonMap("name", "a");
+        Map<String, Object> changed = Collections.singletonMap("age", 42);
+        List<Map<String, Object>> rows = Arrays.asList(unchanged, changed);
+
+        List<?> converted = (List<?>) conversion.convertParameters(Collections.singletonMap("rows", rows)).get("rows");
+
+        assertThat(converted.get(0)).isSameAs(unchanged);
+        assertThat(converted.get(1)).isEqualTo(Collections.singletonMap("age", 42L));
+    }
+
+    public static class Bean {
+
+        private final int value = 1;
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.QueryLoggingLevel;
+import org.slf4j.Logger;
+
+public class QueryLoggerTest {
+
+    @Test
+    public void shouldRenderParametersLikeMaps() {
+        QueryLogger queryLogger = new QueryLogger(QueryLoggingLevel.INFO, 0, true, Collections.<String>emptySet(), 1.0);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("nodeRef", -1L);
+        row.put("labels", new String[] {"Person", "Entity"});
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("rows", Collections.singletonList(row));
+        parameters.put("ids", new long[] {1L, 2L});
+
+        assertThat(queryLogger.render(parameters)).isEqualTo("{rows=[{nodeRef=-1, labels=[Person, Entity]}], ids=[1, 2]}");
+    }
+
+    @Test
+    public void shouldRedactParametersAtAnyDepth() {
+        QueryLogger queryLogger = new QueryLogger(QueryLoggingLevel.INFO, 0, true,
+            new HashSet<>(Arrays.asList("password", "secret")), 1.0);
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("name", "Frodo");
+        props.put("password", "hobbit");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("props", props);
+        parameters.put("secret", Collections.singletonMap("ring", "one"));
+
+        assertThat(queryLogger.render(parameters)).isEqualTo("{props={name=Frodo, password=*****}, secret=*****}");
+    }
+
+    @Test
+    public void shouldStopRenderingAtMaxLength() {
+        QueryLogger queryLogger = new QueryLogger(QueryLoggingLevel.INFO, 20, true, Collections.<String>emptySet(), 1.0);
+        List<Object> rows = new AbstractList<Object>() {
+            @Override
+            public Object get(int index) {
+                if (index > 10) {
+                    fail("Rendered row " + index + " beyond the maximum length");
+                }
+                return Collections.singletonMap("id", index);
+            }
+
+            @Override
+            public int size() {
+                return 1000000;
+            }
+        };
+
+        assertThat(queryLogger.render(Collections.singletonMap("rows", rows))).isEqualTo("{rows=[{id=0}, {id=1...");
+        assertThat(queryLogger.render(Collections.singletonMap("name", new String(new char[100])))).hasSize(23);
+        assertThat(queryLogger.truncate("MATCH (n) RETURN n")).isEqualTo("MATCH (n) RETURN n");
+        assertThat(queryLogger.truncate("MATCH (n) WHERE n.name = {name} RETURN n")).isEqualTo("MATCH (n) WHERE n.na...");
+    }
+
+    @Test
+    public void shouldNotBeEnabledWhenOffOrNotSampled() {
+        assertThat(new QueryLogger(QueryLoggingLevel.OFF, 0, true, Collections.<String>emptySet(), 1.0).isEnabled())
+            .isFalse();
+        assertThat(new QueryLogger(QueryLoggingLevel.INFO, 0, true, Collections.<String>emptySet(), 0.0).isEnabled())
+            .isFalse();
+    }
+
+    @Test
+    public void shouldBeConfiguredFromConfiguration() {
+        Configuration configuration = new Configuration.Builder()
+            .queryLoggingLevel("off")
+            .queryLoggingMaxLength(5)
+            .queryLoggingRedactedParameters("password")
+            .build();
+        QueryLogger queryLogger = new QueryLogger(configuration);
+
+        assertThat(configuration.getQueryLoggingLevel()).isEqualTo(QueryLoggingLevel.OFF);
+        assertThat(configuration.getQueryLoggingParameters()).isTrue();
+        assertThat(configuration.getQueryLoggingSampleRate()).isEqualTo(1.0);
+        assertThat(queryLogger.isEnabled()).isFalse();
+        assertThat(queryLogger.render(Collections.singletonMap("password", "hobbit"))).isEqualTo("{pass...");
+    }
+
+    @Test
+    public void shouldLogToTheLoggerOfTheRequest() {
+        List<Object> logged = new ArrayList<>();
+        Logger requestLogger = (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(),
+            new Class<?>[] {Logger.class}, (proxy, method, args) -> {
+                if (method.getName().equals("isInfoEnabled")) {
+                    return true;
+                }
+                if (method.getName().equals("info")) {
+                    logged.addAll(Arrays.asList(args));
+                }
+                return null;
+            });
+        QueryLogger queryLogger = new QueryLogger(QueryLoggingLevel.INFO, 0, false, Collections.<String>emptySet(), 1.0)
+            .withLogger(requestLogger);
+
+        assertThat(queryLogger.isEnabled()).isTrue();
+        queryLogger.log("MATCH (n) RETURN n", null);
+        assertThat(logged).containsExactly("Request: {}", "MATCH (n) RETURN n");
+    }
+
+    @Test
+    public void shouldRejectUnknownLevel() {
+        assertThatThrownBy(() -> new Configuration.Builder().queryLoggingLevel("verbose").build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown query logging level: verbose");
+    }
+
+    @Test
+    public void shouldTrimRedactedParameterNamesFromProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("query.logging.redacted.parameters", "password, secret ,token");
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+
+        assertThat(configuration.getQueryLoggingRedactedParameters()).containsExactly("password", "secret", "token");
+        assertThat(new QueryLogger(configuration).render(Collections.singletonMap("secret", "one"))).isEqualTo("{secret=*****}");
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.request;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowDataStatement;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * Multi-statement requests, whose statements are all sent before any of their results is read when a transaction is
+ * open, read by {@link org.neo4j.ogm.drivers.bolt.response.MultiStatementRowModelResponse}.
+ */
+public class BoltRequestTest {
+
+    private Transaction nativeTx;
+    private BoltTransaction tx;
+    private TransactionManager transactionManager;
+
+    @Before
+    public void setUp() {
+        nativeTx = mock(Transaction.class);
+        tx = mock(BoltTransaction.class);
+        when(tx.nativeBoltTransaction()).thenReturn(nativeTx);
+        transactionManager = mock(TransactionManager.class);
+        when(transactionManager.getCurrentTransaction()).thenReturn(tx);
+    }
+
+    @Test
+    public void shouldSendAllStatementsBeforeReadingRowsInStatementOrder() {
+        StatementResult first = result(1L, 2L);
+        StatementResult second = result(3L);
+        when(nativeTx.run(eq("first"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("second"), anyMap())).thenReturn(second);
+
+        try (Response<RowModel> response = new BoltRequest(transactionManager).execute(request("first", "second"))) {
+            assertThat(values(response)).containsExactly(1L, 2L, 3L);
+        }
+
+        InOrder inOrder = inOrder(nativeTx, first);
+        inOrder.verify(nativeTx).run(eq("first"), anyMap());
+        inOrder.verify(nativeTx).run(eq("second"), anyMap());
+        inOrder.verify(first, atLeastOnce()).hasNext();
+        verify(tx, never()).rollback();
+    }
+
+    @Test
+    public void shouldRollBackWhenReadingRowsOfStatementFails() {
+        StatementResult first = result(1L);
+        StatementResult second = failingResult();
+        when(nativeTx.run(eq("first"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("second"), anyMap())).thenReturn(second);
+
+        Response<RowModel> response = new BoltRequest(transactionManager).execute(request("first", "second"));
+
+        assertThat(response.next().getValues()).containsExactly(1L);
+        assertThatThrownBy(response::next).isInstanceOf(CypherException.class);
+        verify(tx).rollback();
+    }
+
+    @Test
+    public void shouldRollBackWhenConsumingStatementFailsOnClose() {
+        StatementResult first = result(1L);
+        StatementResult second = result(2L);
+        doThrow(clientException()).when(second).consume();
+        when(nativeTx.run(eq("first"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("second"), anyMap())).thenReturn(second);
+
+        Response<RowModel> response = new BoltRequest(transactionManager).execute(request("first", "second"));
+
+        assertThat(response.next().getValues()).containsExactly(1L);
+        assertThatThrownBy(response::close).isInstanceOf(CypherException.class);
+        verify(tx).rollback();
+    }
+
+    @Test
+    public void shouldConsumeRemainingResultsOnClose() {
+        StatementResult first = result(1L);
+        StatementResult second = result(2L);
+        when(nativeTx.run(eq("first"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("second"), anyMap())).thenReturn(second);
+
+        Response<RowModel> response = new BoltRequest(transactionManager).execute(request("first", "second"));
+        response.close();
+
+        verify(first).consume();
+        verify(second).consume();
+        verify(tx, never()).rollback();
+    }
+
+    @Test
+    public void shouldReadAllRowsBeforeReturningWithoutTransaction() {
+        StatementResult first = result(1L, 2L);
+        StatementResult second = result(3L);
+        when(nativeTx.run(eq("first"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("second"), anyMap())).thenReturn(second);
+        when(transactionManager.getCurrentTransaction()).thenReturn(null);
+        when(transactionManager.openTransaction()).thenReturn(tx);
+
+        Response<RowModel> response = new BoltRequest(transactionManager).execute(request("first", "second"));
+
+        // each statement ran in a transaction of its own, which was committed before its rows were read
+        verify(tx, times(2)).commit();
+        verify(first).consume();
+        verify(second).consume();
+        assertThat(values(response)).containsExactly(1L, 2L, 3L);
+    }
+
+    private static DefaultRequest request(String... statements) {
+        List<Statement> list = new ArrayList<>();
+        for (String statement : statements) {
+            list.add(new RowDataStatement(statement, Collections.emptyMap()));
+        }
+        DefaultRequest request = new DefaultRequest();
+        request.setStatements(list);
+        return request;
+    }
+
+    private static List<Object> values(Response<RowModel> response) {
+        List<Object> values = new ArrayList<>();
+        RowModel row;
+        while ((row = response.next()) != null) {
+            values.addAll(Arrays.asList(row.getValues()));
+        }
+        return values;
+    }
+
+    /**
+     * A result with a single column n, holding the given values.
+     */
+    private static StatementResult result(Long... values) {
+        Deque<Record> records = new ArrayDeque<>();
+        for (Long value : values) {
+            Record record = mock(Record.class);
+            when(record.asMap()).thenReturn(Collections.singletonMap("n", value));
+            records.add(record);
+        }
+        StatementResult result = mock(StatementResult.class);
+        when(result.keys()).thenReturn(Collections.singletonList("n"));
+        when(result.hasNext()).thenAnswer(invocation -> !records.isEmpty());
+        when(result.peek()).thenAnswer(invocation -> records.peek());
+        when(result.next()).thenAnswer(invocation -> records.poll());
+        return result;
+    }
+
+    private static StatementResult failingResult() {
+        StatementResult result = mock(StatementResult.class);
+        when(result.keys()).thenThrow(clientException());
+        when(result.hasNext()).thenThrow(clientException());
+        when(result.peek()).thenThrow(clientException());
+        when(result.next()).thenThrow(clientException());
+        doThrow(clientException()).when(result).consume();
+        return result;
+    }
+
+    private static ClientException clientException() {
+        return new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.response;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+
+public class StreamingHttpResponseTest {
+
+    private CloseableHttpResponse response;
+    private HttpEntity entity;
+
+    @Before
+    public void setUpMocks() {
+        response = mock(CloseableHttpResponse.class);
+        entity = mock(HttpEntity.class);
+        when(response.getEntity()).thenReturn(entity);
+    }
+
+    @Test
+    public void shouldReadRowsAndColumnsWhileStreaming() throws IOException {
+        when(entity.getContent()).thenReturn(rows(3, ""));
+
+        try (Response<RowModel> rsp = new RowModelResponse(response, true)) {
+            assertThat(rsp.columns()).containsExactly("n");
+            for (int i = 0; i < 3; i++) {
+                assertThat(rsp.next().getValues()).containsExactly((long) i);
+            }
+            assertThat(rsp.next()).isNull();
+        }
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldReportErrorsAfterTheLastRow() throws IOException {
+        when(entity.getContent()).thenReturn(rows(2, ERROR));
+
+        RowModelResponse rsp = new RowModelResponse(response, true);
+        assertThat(rsp.next()).isNotNull();
+        assertThat(rsp.next()).isNotNull();
+        try {
+            rsp.next();
+            fail("Expected a CypherException");
+        } catch (CypherException expected) {
+            assertThat(expected.getCode()).isEqualTo("Neo.ClientError.Statement.SyntaxError");
+        }
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldReportErrorsWhenClosingAResponseNotReadToTheEnd() throws IOException {
+        when(entity.getContent()).thenReturn(rows(5, ERROR));
+
+        RowModelResponse rsp = new RowModelResponse(response, true);
+        assertThat(rsp.next()).isNotNull();
+        try {
+            rsp.close();
+            fail("Expected a CypherException");
+        } catch (CypherException expected) {
+            assertThat(expected.getCode()).isEqualTo("Neo.ClientError.Statement.SyntaxError");
+        }
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldReleaseTheConnectionWhenClosingAResponseNotReadToTheEnd() throws IOException {
+        when(entity.getContent()).thenReturn(rows(5, ""));
+
+        RowModelResponse rsp = new RowModelResponse(response, true);
+        assertThat(rsp.next()).isNotNull();
+        rsp.close();
+        rsp.close();
+        verify(response).close();
+    }
+
+    private static final String ERROR = "{\"code\": \"Neo.ClientError.Statement.SyntaxError\", \"message\": \"Invalid input\"}";
+
+    private static InputStream rows(int count, String errors) {
+        StringBuilder s = new StringBuilder("{\"results\": [{\"columns\": [\"n\"], \"data\": [");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                s.append(',');
+            }
+            s.append("{\"row\": [").append(i).append("], \"meta\": [null]}");
+        }
+        s.append("]}], \"errors\": [").append(errors).append("]}");
+        return new ByteArrayInputStream(s.toString().getBytes());
+    }
+}
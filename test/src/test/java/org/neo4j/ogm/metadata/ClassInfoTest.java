@@ -18,6 +18,7 @@ package org.neo4j.ogm.metadata;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -239,6 +240,30 @@ public class ClassInfoTest {
         assertThat(fieldInfo.getName()).isEqualTo("posts");
     }
 
+    @Test
+    public void testRelationshipFieldsAreFoundByTypeAndDirectionIgnoringCase() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        assertThat(classInfo.relationshipField("has_activity", OUTGOING, true).getName()).isEqualTo("activityList");
+        assertThat(classInfo.relationshipField("HAS_ACTIVITY", INCOMING, true)).isNull();
+        assertThat(classInfo.relationshipField("FOLLOWERS", OUTGOING, true)).isNull();
+        assertThat(classInfo.relationshipField("FOLLOWERS", OUTGOING, false).getName()).isEqualTo("followers");
+        assertThat(classInfo.relationshipFieldByName("ActivityList").getName()).isEqualTo("activityList");
+        assertThat(classInfo.propertyFieldByName("RENEWALDATE").getName()).isEqualTo("renewalDate");
+    }
+
+    @Test
+    public void testRelationshipFieldLookupsAreShared() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        Set<FieldInfo> candidates = classInfo.candidateRelationshipFields("FOLLOWERS", OUTGOING, false);
+
+        assertThat(candidates).hasSize(1);
+        assertThat(classInfo.candidateRelationshipFields("followers", OUTGOING, false)).isSameAs(candidates);
+        assertThat(classInfo.candidateRelationshipFields("followers", INCOMING, false)).isEmpty();
+        assertThat(classInfo.relationshipFields()).isSameAs(classInfo.relationshipFields());
+    }
+
 
     @Test
     public void testRelationshipGetters() {
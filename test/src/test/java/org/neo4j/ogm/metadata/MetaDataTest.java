@@ -15,6 +15,12 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.exception.AmbiguousBaseClassException;
@@ -142,4 +148,32 @@ public class MetaDataTest {
     public void testNonMemberAndMemberTaxa() {
         assertThat(metaData.resolve("Silver", "Pewter", "Tin").name()).isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
+
+    /**
+     * A class can be found by any partial name that is unique in the domain
+     */
+    @Test
+    public void testClassInfoByPartiallyQualifiedName() {
+        ClassInfo topic = metaData.classInfo("org.neo4j.ogm.domain.forum.Topic");
+
+        assertThat(metaData.classInfo("forum.Topic")).isSameAs(topic);
+        assertThat(metaData.classInfo("domain.forum.Topic")).isSameAs(topic);
+        assertThat(metaData.classInfo("orum.Topic")).isNull();
+    }
+
+    @Test
+    public void testConcurrentLookupsResolveSameClassInfo() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ClassInfo>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> metaData.resolve("Login", "User")));
+            }
+            for (Future<ClassInfo> future : futures) {
+                assertThat(future.get().name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -20,6 +20,7 @@ import org.junit.Test;
 import org.neo4j.ogm.domain.canonical.ArbitraryRelationshipEntity;
 import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.exception.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
@@ -29,11 +30,13 @@ import org.neo4j.ogm.response.model.RelationshipModel;
  */
 public class EntityFactoryTest {
 
+    private MetaData metaData;
     private EntityFactory entityFactory;
 
     @Before
     public void setUp() {
-        this.entityFactory = new EntityFactory(new MetaData("org.neo4j.ogm.domain.social", "org.neo4j.ogm.domain.canonical"));
+        this.metaData = new MetaData("org.neo4j.ogm.domain.social", "org.neo4j.ogm.domain.canonical");
+        this.entityFactory = new EntityFactory(metaData);
     }
 
     @Test
@@ -86,4 +89,26 @@ public class EntityFactoryTest {
         Individual instance = this.entityFactory.newObject(Individual.class);
         assertThat(instance).as("The resultant instance shouldn't be null").isNotNull();
     }
+
+    @Test
+    public void shouldResolveSameTaxaRepeatedly() {
+        NodeModel first = new NodeModel();
+        first.setLabels(new String[]{"Female", "Individual", "Lass"});
+        NodeModel second = new NodeModel();
+        second.setLabels(new String[]{"Female", "Individual", "Lass"});
+
+        Individual one = this.entityFactory.newObject(first);
+        Individual two = this.entityFactory.newObject(second);
+
+        assertThat(one).isNotNull().isNotSameAs(two);
+        assertThat(two).isNotNull();
+    }
+
+    @Test
+    public void shouldReuseInstantiatorOfClassInfo() {
+        ClassInfo classInfo = metaData.classInfo(Individual.class.getName());
+
+        assertThat(classInfo.getInstantiator()).isSameAs(classInfo.getInstantiator());
+        assertThat(classInfo.getInstantiator().<Individual>newInstance()).isInstanceOf(Individual.class);
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor.PrimitiveKind;
+
+public class FieldAccessorTest {
+
+    @Test
+    public void shouldReadAndWriteObjectFields() throws Exception {
+        FieldAccessor accessor = FieldAccessors.forField(field("name"));
+        Sample sample = new Sample();
+
+        accessor.write(sample, "Frodo");
+
+        assertThat(sample.name).isEqualTo("Frodo");
+        assertThat(accessor.read(sample)).isEqualTo("Frodo");
+        assertThat(accessor.primitiveKind()).isEqualTo(PrimitiveKind.NONE);
+    }
+
+    @Test
+    public void shouldReadPrimitiveFieldsWithoutBoxing() throws Exception {
+        Sample sample = new Sample();
+        sample.age = 42;
+        sample.count = 1234567890123L;
+        sample.ratio = 0.5f;
+        sample.flag = true;
+        sample.initial = 'F';
+
+        assertThat(FieldAccessors.forField(field("age")).readInt(sample)).isEqualTo(42);
+        assertThat(FieldAccessors.forField(field("count")).readLong(sample)).isEqualTo(1234567890123L);
+        assertThat(FieldAccessors.forField(field("ratio")).readDouble(sample)).isEqualTo(0.5d);
+        assertThat(FieldAccessors.forField(field("flag")).readBoolean(sample)).isTrue();
+        assertThat(FieldAccessors.forField(field("initial")).readInt(sample)).isEqualTo((int) 'F');
+    }
+
+    @Test
+    public void shouldWriteBoxedValuesToPrimitiveFields() throws Exception {
+        Sample sample = new Sample();
+
+        FieldAccessors.forField(field("count")).write(sample, 7L);
+
+        assertThat(sample.count).isEqualTo(7L);
+    }
+
+    @Test
+    public void reflectiveAccessorShouldBehaveLikeMethodHandleAccessor() throws Exception {
+        Sample sample = new Sample();
+        sample.count = 3L;
+        FieldAccessor accessor = new ReflectiveFieldAccessor(field("count"));
+
+        assertThat(accessor.readLong(sample)).isEqualTo(3L);
+        accessor.write(sample, 4L);
+        assertThat(accessor.read(sample)).isEqualTo(4L);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectPrimitiveReadOfIncompatibleField() throws Exception {
+        FieldAccessors.forField(field("name")).readLong(new Sample());
+    }
+
+    private static Field field(String name) throws NoSuchFieldException {
+        return Sample.class.getDeclaredField(name);
+    }
+
+    private static class Sample {
+        private String name;
+        private int age;
+        private long count;
+        private float ratio;
+        private boolean flag;
+        private char initial;
+    }
+}
@@ -16,6 +16,8 @@ package org.neo4j.ogm.persistence.examples.education;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.Course;
@@ -92,6 +94,24 @@ public class EducationTest {
         assertThat(courses).hasSize(7);
     }
 
+    @Test
+    public void testStreamTeachers() throws Exception {
+
+        session.setDriver(new TeacherRequest());
+
+        List<Teacher> teachers;
+        try (Stream<Teacher> stream = session.stream(Teacher.class)) {
+            teachers = stream.collect(Collectors.toList());
+        }
+
+        assertThat(teachers).extracting(Teacher::getName)
+                .containsExactlyInAnyOrder("Mr Thomas", "Mrs Roberts", "Miss Young");
+
+        for (Teacher teacher : teachers) {
+            assertThat(teacher.getCourses()).hasSize(3);
+        }
+    }
+
     private void test(long hash, List<Student> students) {
         for (Student student : students) {
             hash -= student.getId();
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.domain.social.Person;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class KeysetPaginationTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.social");
+        session = sessionFactory.openSession();
+
+        // each person likes the next one, and the last one likes the first
+        List<Person> people = new ArrayList<>();
+        for (String name : new String[] { "a", "b", "c", "d", "e" }) {
+            people.add(new Person(name));
+        }
+        for (int i = 0; i < people.size(); i++) {
+            people.get(i).getPeopleILike().add(people.get((i + 1) % people.size()));
+        }
+        session.save(people.get(0));
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldPageOverRootsOfSelfReferencingTypeByProperty() {
+        Pagination pagination = Pagination.keyset("name", 2);
+
+        assertThat(names(session.loadAll(Person.class, pagination, 1))).containsExactly("a", "b");
+
+        pagination = pagination.getContinuation();
+        assertThat(names(session.loadAll(Person.class, pagination, 1))).containsExactly("c", "d");
+
+        pagination = pagination.getContinuation();
+        assertThat(names(session.loadAll(Person.class, pagination, 1))).containsExactly("e");
+        assertThat(pagination.getContinuation()).isNull();
+    }
+
+    @Test
+    public void shouldPageOverRootsOfSelfReferencingTypeByNativeId() {
+        List<String> names = new ArrayList<>();
+        Pagination pagination = Pagination.keyset(2);
+        while (pagination != null) {
+            Collection<Person> page = session.loadAll(Person.class, pagination, 1);
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            names.addAll(names(page));
+            pagination = pagination.getContinuation();
+        }
+
+        assertThat(names).containsOnly("a", "b", "c", "d", "e");
+        assertThat(names).hasSize(5);
+    }
+
+    private static List<String> names(Collection<Person> people) {
+        List<String> names = new ArrayList<>();
+        for (Person person : people) {
+            names.add(person.getName());
+        }
+        return names;
+    }
+}
@@ -16,8 +16,10 @@ package org.neo4j.ogm.persistence.session.capability;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -30,10 +32,12 @@ import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.session.BulkOptions;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Luanne Misquitta
@@ -184,4 +188,99 @@ public class SaveCapabilityTest extends MultiDriverTestClass {
 
         assertThat(session.countEntitiesOfType(Recording.class)).isEqualTo(2);
     }
+
+    @Test
+    public void bulkSaveShouldSaveEntitiesInChunks() {
+        List<Artist> saved = new ArrayList<>();
+        session.bulkSave(artistsWithAlbums(25, saved),
+                new BulkOptions.Builder().chunkSize(10).chunksPerTransaction(2).trackEntities(false).build());
+
+        assertThat(saved).hasSize(25);
+        for (Artist artist : saved) {
+            assertThat(artist.getId()).isNotNull();
+            assertThat(((Neo4jSession) session).context().getNodeEntity(artist.getId())).isNull();
+        }
+        assertThat(session.getTransaction()).isNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(25);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+        assertThat(session.load(Artist.class, saved.get(24).getId()).getAlbums()).hasSize(1);
+    }
+
+    @Test
+    public void bulkSaveShouldLinkToEntitiesSavedByEarlierChunks() {
+        List<Artist> saved = new ArrayList<>();
+        Iterable<Artist> artists = artistsWithAlbums(25, saved);
+        // each album has the artist of the previous one as guest, so the graph spans all chunks
+        Iterable<Artist> chained = () -> {
+            Iterator<Artist> iterator = artists.iterator();
+            return new Iterator<Artist>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Artist next() {
+                    Artist artist = iterator.next();
+                    if (saved.size() > 1) {
+                        Artist previous = saved.get(saved.size() - 2);
+                        Album album = artist.getAlbums().iterator().next();
+                        album.setGuestArtist(previous);
+                        previous.getGuestAlbums().add(album);
+                    }
+                    return artist;
+                }
+            };
+        };
+
+        session.bulkSave(chained, new BulkOptions.Builder().chunkSize(10).trackEntities(false).build());
+
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(25);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+        Album lastAlbum = session.load(Artist.class, saved.get(24).getId()).getAlbums().iterator().next();
+        assertThat(session.load(Album.class, lastAlbum.getId()).getGuestArtist().getId()).isEqualTo(saved.get(23).getId());
+        Album secondChunkAlbum = session.load(Artist.class, saved.get(10).getId()).getAlbums().iterator().next();
+        assertThat(session.load(Album.class, secondChunkAlbum.getId()).getGuestArtist().getId()).isEqualTo(saved.get(9).getId());
+    }
+
+    @Test
+    public void bulkSaveShouldTrackSavedEntitiesByDefault() {
+        session.bulkSave(Arrays.asList(aerosmith, bonJovi, defLeppard), BulkOptions.defaults());
+
+        assertThat(((Neo4jSession) session).context().getNodeEntity(aerosmith.getId())).isSameAs(aerosmith);
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(3);
+    }
+
+    @Test
+    public void bulkSaveShouldSaveAllChunksInTheCurrentTransaction() {
+        Transaction transaction = session.beginTransaction();
+        session.bulkSave(Arrays.asList(aerosmith, bonJovi, defLeppard), new BulkOptions.Builder().chunkSize(1).build());
+        assertThat(session.getTransaction()).isSameAs(transaction);
+
+        transaction.rollback();
+        transaction.close();
+
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(0);
+    }
+
+    private static Iterable<Artist> artistsWithAlbums(int count, List<Artist> created) {
+        return () -> new Iterator<Artist>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Artist next() {
+                Artist artist = new Artist("Artist " + index);
+                artist.addAlbum(new Album("Album " + index++));
+                created.add(artist);
+                return artist;
+            }
+        };
+    }
 }
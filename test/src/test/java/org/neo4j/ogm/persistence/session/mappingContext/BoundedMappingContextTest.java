@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.mappingContext;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class BoundedMappingContextTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Long artistId;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+
+        Artist artist = new Artist("Artist");
+        artist.addAlbum(new Album("First"));
+        artist.addAlbum(new Album("Second"));
+        artist.addAlbum(new Album("Third"));
+
+        Session session = sessionFactory.openSession();
+        session.save(artist);
+        artistId = artist.getId();
+    }
+
+    @After
+    public void teardown() {
+        sessionFactory.openSession().purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadRootWhenSubgraphExceedsCapacity() {
+        sessionFactory.setMappingContextCapacity(2);
+        Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+
+        Artist artist = session.load(Artist.class, artistId, 1);
+
+        assertThat(artist).isNotNull();
+        assertThat(artist.getName()).isEqualTo("Artist");
+        assertThat(artist.getAlbums()).hasSize(3);
+        assertThat(session.context().getNodeEntity(artistId)).isSameAs(artist);
+    }
+
+    @Test
+    public void shouldLoadAllRootsWhenSubgraphExceedsCapacity() {
+        sessionFactory.setMappingContextCapacity(2);
+        Session session = sessionFactory.openSession();
+
+        Collection<Artist> artists = session.loadAll(Artist.class, 1);
+
+        assertThat(artists).hasSize(1);
+        assertThat(artists.iterator().next().getAlbums()).hasSize(3);
+    }
+
+    @Test
+    public void shouldDeleteRelationshipToEvictedEntityRemovedFromLoadedRoot() {
+        sessionFactory.setMappingContextCapacity(2);
+        Session session = sessionFactory.openSession();
+
+        Artist artist = session.load(Artist.class, artistId, 1);
+        Album removed = artist.getAlbums().iterator().next();
+        artist.getAlbums().remove(removed);
+        removed.setArtist(null);
+        session.save(artist);
+
+        Artist reloaded = sessionFactory.openSession().load(Artist.class, artistId, 1);
+        assertThat(reloaded.getAlbums()).hasSize(2);
+        assertThat(reloaded.getAlbums()).extracting(Album::getName).doesNotContain(removed.getName());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.result.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+
+public class GraphModelAdapterTest {
+
+    private final MapGraphModelAdapter adapter = new MapGraphModelAdapter();
+
+    @Test
+    public void shouldReuseModelsOfNodesAndRelationshipsSeenInEarlierRecords() {
+        Map<String, Object> hub = node(1L, "Hub");
+
+        GraphModel first = adapter.adapt(record(hub, node(2L, "Leaf"), relationship(10L, 1L, 2L)));
+        GraphModel second = adapter.adapt(record(hub, node(3L, "Leaf"), relationship(10L, 1L, 2L)));
+
+        Node firstHub = first.getNodes().iterator().next();
+        Node secondHub = second.getNodes().iterator().next();
+        assertThat(secondHub).isSameAs(firstHub);
+        assertThat(second.getRelationships().iterator().next()).isSameAs(first.getRelationships().iterator().next());
+        assertThat(adapter.builtNodes).isEqualTo(3);
+        assertThat(adapter.builtRelationships).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldBuildNewModelsWhenLaterRecordsChangeLabelsOrProperties() {
+        GraphModel first = adapter.adapt(record(node(1L, "Counter", 1), relationship(10L, 1L, 1L, 1)));
+        GraphModel second = adapter.adapt(record(node(1L, "Counter", 2), relationship(10L, 1L, 1L, 2)));
+        GraphModel third = adapter.adapt(record(node(1L, "Counter", 2), relationship(10L, 1L, 1L, 2)));
+        GraphModel fourth = adapter.adapt(record(node(1L, "Renamed", 2)));
+
+        Node firstNode = first.getNodes().iterator().next();
+        Node secondNode = second.getNodes().iterator().next();
+        Edge secondEdge = second.getRelationships().iterator().next();
+        assertThat(firstNode.getPropertyList()).extracting(property -> property.getValue()).containsOnly(1);
+        assertThat(secondNode.getPropertyList()).extracting(property -> property.getValue()).containsOnly(2);
+        assertThat(secondEdge.getPropertyList()).extracting(property -> property.getValue()).containsOnly(2);
+        assertThat(third.getNodes().iterator().next()).isSameAs(secondNode);
+        assertThat(third.getRelationships().iterator().next()).isSameAs(secondEdge);
+        assertThat(fourth.getNodes().iterator().next().getLabels()).containsExactly("Renamed");
+        assertThat(adapter.builtNodes).isEqualTo(3);
+        assertThat(adapter.builtRelationships).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldAddEachNodeAndRelationshipOnceToARecord() {
+        Map<String, Object> hub = node(1L, "Hub");
+
+        GraphModel graphModel = adapter.adapt(record(hub, hub, Arrays.asList(hub, relationship(10L, 1L, 1L), relationship(10L, 1L, 1L))));
+
+        assertThat(graphModel.getNodes()).hasSize(1);
+        assertThat(graphModel.getRelationships()).hasSize(1);
+        Edge edge = graphModel.getRelationships().iterator().next();
+        assertThat(edge.getType()).isEqualTo("LINKS");
+        assertThat(edge.getStartNode()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldNotShareModelsBetweenAdapters() {
+        Map<String, Object> hub = node(1L, "Hub");
+
+        GraphModel first = adapter.adapt(record(hub));
+        GraphModel second = new MapGraphModelAdapter().adapt(record(hub));
+
+        assertThat(second.getNodes().iterator().next()).isNotSameAs(first.getNodes().iterator().next());
+    }
+
+    @Test
+    public void shouldOnlyKeepMostRecentlyUsedModels() {
+        MapGraphModelAdapter adapter = new MapGraphModelAdapter(2);
+        Map<String, Object> hub = node(1L, "Hub");
+
+        GraphModel first = adapter.adapt(record(hub));
+        adapter.adapt(record(hub, node(2L, "Leaf")));
+        adapter.adapt(record(hub, node(3L, "Leaf")));
+        GraphModel last = adapter.adapt(record(hub, node(2L, "Leaf")));
+
+        // the hub is used by every record and stays, the first leaf was dropped for the second one
+        assertThat(last.getNodes()).contains(first.getNodes().iterator().next());
+        assertThat(adapter.builtNodes).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldNotKeepModelsWhenCacheIsDisabled() {
+        MapGraphModelAdapter adapter = new MapGraphModelAdapter(0);
+        Map<String, Object> hub = node(1L, "Hub");
+
+        GraphModel first = adapter.adapt(record(hub));
+        GraphModel second = adapter.adapt(record(hub));
+
+        assertThat(second.getNodes().iterator().next()).isNotSameAs(first.getNodes().iterator().next());
+        assertThat(adapter.builtNodes).isEqualTo(2);
+    }
+
+    private static Map<String, Object> record(Object... values) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            record.put("c" + i, values[i]);
+        }
+        return record;
+    }
+
+    private static Map<String, Object> node(Long id, String label) {
+        Map<String, Object> node = new HashMap<>();
+        node.put("node", id);
+        node.put("labels", Collections.singletonList(label));
+        node.put("properties", Collections.singletonMap("tags", new String[]{"a", "b"}));
+        return node;
+    }
+
+    private static Map<String, Object> node(Long id, String label, int count) {
+        Map<String, Object> node = node(id, label);
+        node.put("properties", Collections.singletonMap("count", count));
+        return node;
+    }
+
+    private static Map<String, Object> relationship(Long id, Long start, Long end) {
+        Map<String, Object> relationship = new HashMap<>();
+        relationship.put("relationship", id);
+        relationship.put("start", start);
+        relationship.put("end", end);
+        relationship.put("properties", Collections.emptyMap());
+        return relationship;
+    }
+
+    private static Map<String, Object> relationship(Long id, Long start, Long end, int count) {
+        Map<String, Object> relationship = relationship(id, start, end);
+        relationship.put("properties", Collections.singletonMap("count", count));
+        return relationship;
+    }
+
+    /**
+     * Adapts nodes and relationships given as maps, counting how many distinct models it returns.
+     */
+    @SuppressWarnings("unchecked")
+    static class MapGraphModelAdapter extends GraphModelAdapter {
+
+        private final Set<Object> models = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        int builtNodes;
+        int builtRelationships;
+
+        MapGraphModelAdapter() {
+        }
+
+        MapGraphModelAdapter(int modelCacheSize) {
+            super(modelCacheSize);
+        }
+
+        @Override
+        public GraphModel adapt(Map<String, Object> data) {
+            GraphModel graphModel = super.adapt(data);
+            for (Node node : graphModel.getNodes()) {
+                if (models.add(node)) {
+                    builtNodes++;
+                }
+            }
+            for (Edge edge : graphModel.getRelationships()) {
+                if (models.add(edge)) {
+                    builtRelationships++;
+                }
+            }
+            return graphModel;
+        }
+
+        @Override
+        public boolean isPath(Object value) {
+            return false;
+        }
+
+        @Override
+        public boolean isNode(Object value) {
+            return value instanceof Map && ((Map) value).containsKey("node");
+        }
+
+        @Override
+        public boolean isRelationship(Object value) {
+            return value instanceof Map && ((Map) value).containsKey("relationship");
+        }
+
+        @Override
+        public long nodeId(Object node) {
+            return (Long) ((Map) node).get("node");
+        }
+
+        @Override
+        public List<String> labels(Object node) {
+            return (List<String>) ((Map) node).get("labels");
+        }
+
+        @Override
+        public long relationshipId(Object relationship) {
+            return (Long) ((Map) relationship).get("relationship");
+        }
+
+        @Override
+        public String relationshipType(Object relationship) {
+            return "LINKS";
+        }
+
+        @Override
+        public Long startNodeId(Object relationship) {
+            return (Long) ((Map) relationship).get("start");
+        }
+
+        @Override
+        public Long endNodeId(Object relationship) {
+            return (Long) ((Map) relationship).get("end");
+        }
+
+        @Override
+        public Map<String, Object> properties(Object container) {
+            return (Map<String, Object>) ((Map) container).get("properties");
+        }
+
+        @Override
+        public List<Object> nodesInPath(Object path) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Object> relsInPath(Object path) {
+            return Collections.emptyList();
+        }
+    }
+}
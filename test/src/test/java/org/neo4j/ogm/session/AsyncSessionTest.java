@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class AsyncSessionTest {
+
+    private Session session;
+    private ExecutorService executor;
+    private AsyncSession asyncSession;
+
+    @Before
+    public void setUp() {
+        session = mock(Session.class);
+        executor = Executors.newFixedThreadPool(4);
+        asyncSession = new Neo4jAsyncSession(session, executor);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldCompleteWithTheResultOfTheOperation() throws Exception {
+        when(session.load(String.class, 42L)).thenReturn("loaded");
+
+        assertThat(asyncSession.load(String.class, 42L).toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+    }
+
+    @Test
+    public void shouldRunOperationsOneAtATimeInOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = asyncSession.run(s -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            order.add(1);
+            return (Void) null;
+        }).toCompletableFuture();
+        CompletableFuture<Void> second = asyncSession.run(s -> {
+            order.add(2);
+            return (Void) null;
+        }).toCompletableFuture();
+
+        firstStarted.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+        assertThat(second.isDone()).isFalse();
+
+        releaseFirst.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldReportFailuresAndRunLaterOperations() throws Exception {
+        Object entity = new Object();
+        doThrow(new IllegalStateException("failed")).when(session).save(entity);
+
+        CompletableFuture<Void> save = asyncSession.save(entity).toCompletableFuture();
+        CompletableFuture<Long> count = asyncSession.countEntitiesOfType(Object.class).toCompletableFuture();
+
+        try {
+            save.get(5, TimeUnit.SECONDS);
+            fail("Expected the save to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(count.get(5, TimeUnit.SECONDS)).isEqualTo(0L);
+        verify(session).countEntitiesOfType(Object.class);
+    }
+
+    @Test
+    public void shouldNotRunTheNextOperationWhenACallerCompletesAStage() throws Exception {
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Integer> first = asyncSession.run(s -> {
+            await(releaseFirst);
+            order.add(1);
+            return 1;
+        }).toCompletableFuture();
+        first.complete(0);
+        CompletableFuture<Integer> second = asyncSession.run(s -> {
+            order.add(2);
+            return 2;
+        }).toCompletableFuture();
+
+        Thread.sleep(50);
+        assertThat(second.isDone()).isFalse();
+
+        releaseFirst.countDown();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(order).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldRollBackTransactionLeftOpenByTheWork() throws Exception {
+        Transaction transaction = mock(Transaction.class);
+        AtomicReference<Transaction> current = new AtomicReference<>();
+        when(session.beginTransaction()).thenAnswer(invocation -> {
+            current.set(transaction);
+            return transaction;
+        });
+        when(session.getTransaction()).thenAnswer(invocation -> current.get());
+        doAnswer(invocation -> {
+            current.set(null);
+            return null;
+        }).when(transaction).rollback();
+
+        CompletableFuture<Transaction> begin = asyncSession.run(Session::beginTransaction).toCompletableFuture();
+
+        try {
+            begin.get(5, TimeUnit.SECONDS);
+            fail("Expected the work to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        verify(transaction).rollback();
+        assertThat(current.get()).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
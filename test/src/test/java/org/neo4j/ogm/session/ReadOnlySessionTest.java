@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.persistence.examples.education.TeacherRequest;
+
+public class ReadOnlySessionTest {
+
+    private Neo4jSession session;
+
+    @Before
+    public void setUp() {
+        SessionFactory sessionFactory = new SessionFactory(new TeacherRequest(), "org.neo4j.ogm.domain.education");
+        session = (Neo4jSession) sessionFactory.openReadOnlySession();
+    }
+
+    @Test
+    public void shouldHydrateEachEntityOnceWithinAResponse() {
+        Map<String, Teacher> teachers = loadTeachers();
+
+        assertThat(teachers).hasSize(3);
+        assertThat(course(teachers.get("Mr Thomas"), "English")).isSameAs(course(teachers.get("Mrs Roberts"), "English"));
+    }
+
+    @Test
+    public void shouldNotTrackLoadedEntities() {
+        Map<String, Teacher> teachers = loadTeachers();
+        MappingContext context = session.context();
+
+        assertThat(teachers).isNotEmpty();
+        assertThat(session.isReadOnly()).isTrue();
+        assertThat(context.isTracking()).isFalse();
+        // each response is mapped into a context of its own, the session's context is left alone
+        assertThat(context.getNodeEntity(20L)).isNull();
+        assertThat(context.getRelationships()).isEmpty();
+        assertThat(session.requestContext()).isNotSameAs(session.requestContext());
+    }
+
+    @Test
+    public void shouldCreateNewInstancesForEachRequest() {
+        Teacher first = loadTeachers().get("Mr Thomas");
+        Teacher second = loadTeachers().get("Mr Thomas");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getCourses()).hasSize(3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotSaveEntities() {
+        session.save(new Teacher("Mr Chips"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotDeleteEntities() {
+        session.delete(loadTeachers().get("Mr Thomas"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotDeleteEntitiesOfType() {
+        session.deleteAll(Teacher.class);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotPurgeDatabase() {
+        session.purgeDatabase();
+    }
+
+    private Map<String, Teacher> loadTeachers() {
+        Map<String, Teacher> teachers = new HashMap<>();
+        Collection<Teacher> teacherList = session.loadAll(Teacher.class);
+        for (Teacher teacher : teacherList) {
+            teachers.put(teacher.getName(), teacher);
+        }
+        return teachers;
+    }
+
+    private Course course(Teacher teacher, String name) {
+        for (Course course : teacher.getCourses()) {
+            if (course.getName().equals(name)) {
+                return course;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+public class CachingLoadClauseBuilderTest {
+
+    private final LoadClauseBuilder pathLoadClauseBuilder = new PathLoadClauseBuilder();
+    private final LoadClauseBuilder cachingLoadClauseBuilder = new CachingLoadClauseBuilder(pathLoadClauseBuilder);
+
+    @Test
+    public void shouldBuildSameClauseAsDelegate() {
+        assertThat(cachingLoadClauseBuilder.build("n", "Person", 2))
+            .isEqualTo(pathLoadClauseBuilder.build("n", "Person", 2));
+        assertThat(cachingLoadClauseBuilder.build("r", "Person", -1))
+            .isEqualTo(pathLoadClauseBuilder.build("r", "Person", -1));
+    }
+
+    @Test
+    public void shouldReuseClauseForSameLabelAndDepth() {
+        String clause = cachingLoadClauseBuilder.build("Person", 1);
+
+        assertThat(cachingLoadClauseBuilder.build("Person", 1)).isSameAs(clause);
+        assertThat(cachingLoadClauseBuilder.build("Person", 2)).isNotEqualTo(clause);
+    }
+}
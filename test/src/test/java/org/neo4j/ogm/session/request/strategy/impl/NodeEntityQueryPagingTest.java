@@ -86,6 +86,34 @@ public class NodeEntityQueryPagingTest {
                 .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
+    @Test
+    public void testFindByTypeWithKeysetOverNativeId() {
+        assertThat(queryStatements.findByType("Raptor", 1).setPagination(Pagination.keyset(2)).getStatement())
+                .isEqualTo("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+    }
+
+    @Test
+    public void testFindByPropertyWithKeysetContinuation() {
+        Pagination pagination = Pagination.keyset("name", 2);
+        pagination.continueAfter("raptor-2");
+
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 0)
+                .setPagination(pagination.getContinuation())
+                .setKeyProperty("name");
+
+        assertThat(query.getStatement())
+                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n WHERE n.`name` > { `keysetLastKey` } WITH n ORDER BY n.`name` LIMIT 2 RETURN n");
+        assertThat(query.getParameters()).containsEntry("keysetLastKey", "raptor-2");
+    }
+
+    @Test
+    public void testKeysetPaginationEndsWithoutLastKey() {
+        Pagination pagination = Pagination.keyset("name", 2);
+        pagination.continueAfter(null);
+
+        assertThat(pagination.getContinuation()).isNull();
+    }
+
     @Test
     public void testFindByTypeAndOffset() {
         Pagination pagination = new Pagination(1, 5);
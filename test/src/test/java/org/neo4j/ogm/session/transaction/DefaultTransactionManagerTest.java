@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.transaction;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+public class DefaultTransactionManagerTest {
+
+    private Driver driver;
+
+    @Before
+    public void setUp() {
+        driver = mock(Driver.class);
+        when(driver.newTransaction(any(Transaction.Type.class), any(), any(TransactionManager.class)))
+            .thenAnswer(invocation -> new AbstractTransaction(invocation.getArgument(2)) {});
+    }
+
+    @Test
+    public void shouldKeepTransactionsOfSessionsOnTheSameThreadApart() {
+        DefaultTransactionManager first = new DefaultTransactionManager(null, driver);
+        Transaction tx = first.openTransaction();
+
+        DefaultTransactionManager second = new DefaultTransactionManager(null, driver);
+
+        assertThat(second.getCurrentTransaction()).isNull();
+        assertThat(first.getCurrentTransaction()).isSameAs(tx);
+        assertThat(second.openTransaction()).isNotSameAs(tx);
+    }
+
+    @Test
+    public void shouldBeginTransactionsManagedByTheSessionsTransactionManager() {
+        DefaultTransactionManager transactionManager = new DefaultTransactionManager(null, driver);
+
+        transactionManager.openTransaction(Transaction.Type.READ_ONLY, emptySet());
+
+        verify(driver).newTransaction(Transaction.Type.READ_ONLY, emptySet(), transactionManager);
+    }
+
+    @Test
+    public void shouldKeepTheTransactionWhenTheSessionMovesToAnotherThread() throws Exception {
+        DefaultTransactionManager transactionManager = new DefaultTransactionManager(null, driver);
+        Transaction tx = transactionManager.openTransaction();
+
+        Transaction seenByOtherThread = CompletableFuture.supplyAsync(transactionManager::getCurrentTransaction)
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(seenByOtherThread).isSameAs(tx);
+    }
+
+    @Test
+    public void shouldDetachTheTransactionWhenCommitted() {
+        DefaultTransactionManager transactionManager = new DefaultTransactionManager(null, driver);
+        Transaction tx = transactionManager.openTransaction();
+
+        tx.commit();
+
+        assertThat(transactionManager.getCurrentTransaction()).isNull();
+    }
+}